@@ -0,0 +1,10 @@
+package com.familring.albumservice.exception.client;
+
+import com.familring.albumservice.exception.base.ApplicationException;
+import com.familring.albumservice.exception.constant.ErrorDetail;
+
+public class FamilyNotFoundException extends ApplicationException {
+    public FamilyNotFoundException() {
+        super(ErrorDetail.FAMILY_NOT_FOUND);
+    }
+}
@@ -17,6 +17,7 @@ import com.familring.albumservice.repository.AlbumQueryRepository;
 import com.familring.albumservice.repository.AlbumRepository;
 import com.familring.albumservice.repository.PhotoRepository;
 import com.familring.albumservice.service.client.ClassificationServiceFeignClient;
+import com.familring.albumservice.service.client.FamilyIdResolver;
 import com.familring.albumservice.service.client.FamilyServiceFeignClient;
 import com.familring.albumservice.service.client.FileServiceFeignClient;
 import com.familring.albumservice.service.client.UserServiceFeignClient;
@@ -49,6 +50,7 @@ public class AlbumService {
 
     private final TransactionTemplate transactionTemplate;
     private final FamilyServiceFeignClient familyServiceFeignClient;
+    private final FamilyIdResolver familyIdResolver;
     private final FileServiceFeignClient fileServiceFeignClient;
     private final ClassificationServiceFeignClient classificationServiceFeignClient;
     private final AlbumRepository albumRepository;
@@ -69,7 +71,7 @@ public class AlbumService {
      */
     @Transactional
     public void createAlbum(AlbumRequest albumRequest, Long userId) {
-        Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData().getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         AlbumBuilder albumBuilder = Album.builder().familyId(familyId).albumName(albumRequest.getAlbumName())
                 .albumType(albumRequest.getAlbumType());
@@ -112,7 +114,7 @@ public class AlbumService {
 
     @Transactional
     public void updateAlbum(AlbumUpdateRequest albumUpdateRequest, Long albumId, Long userId) {
-        Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData().getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
         Album album = albumRepository.findById(albumId).orElseThrow(AlbumNotFoundException::new);
 
         if (!album.getFamilyId().equals(familyId)) {
@@ -131,7 +133,7 @@ public class AlbumService {
     @Transactional
     public void deleteAlbum(Long albumId, Long userId) {
         Album album = albumRepository.findById(albumId).orElseThrow(AlbumNotFoundException::new);
-        Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData().getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         if (!album.getFamilyId().equals(familyId)) {
             throw new InvalidAlbumRequestException();
@@ -143,7 +145,7 @@ public class AlbumService {
 
     public Map<AlbumType, List<AlbumInfoResponse>> getAlbums(List<AlbumType> albumTypes, Long userId) {
         log.info("{}: getAlbums", userId);
-        Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData().getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
         List<Album> albums = albumQueryRepository.findByAlbumType(albumTypes, familyId);
         Map<AlbumType, List<AlbumInfoResponse>> classifiedAlbums = new HashMap<>();
 
@@ -164,7 +166,7 @@ public class AlbumService {
     public AlbumResponse getPhotos(Long albumId, Long userId) {
         log.info("{}: getPhotos", userId);
         Album album = albumRepository.findById(albumId).orElseThrow(AlbumNotFoundException::new);
-        Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData().getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         if (!album.getFamilyId().equals(familyId)) {
             throw new InvalidAlbumRequestException();
@@ -177,7 +179,7 @@ public class AlbumService {
     @Transactional
     public void addPhotos(Long albumId, List<MultipartFile> photos, Long userId) {
         Album album = albumRepository.findById(albumId).orElseThrow(AlbumNotFoundException::new);
-        Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData().getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         if (!album.getFamilyId().equals(familyId)) {
             throw new InvalidAlbumRequestException();
@@ -261,7 +263,7 @@ public class AlbumService {
     @Transactional
     public void deletePhotos(List<Long> photoIds, Long albumId, Long userId) {
         List<Photo> photos = photoRepository.findAllByIdWithAlbum(photoIds);
-        Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData().getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
         photos.forEach(photo -> {
             if (!photo.getAlbum().getFamilyId().equals(familyId) || !photo.getAlbum().getId().equals(albumId)) {
                 throw new InvalidAlbumRequestException();
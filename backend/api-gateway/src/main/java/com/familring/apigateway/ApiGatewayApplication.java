@@ -2,10 +2,12 @@ package com.familring.apigateway;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 
 @SpringBootApplication
 @EnableDiscoveryClient
+@RemoteApplicationEventScan(basePackages = "com.familring.apigateway.event")
 public class ApiGatewayApplication {
 
     public static void main(String[] args) {
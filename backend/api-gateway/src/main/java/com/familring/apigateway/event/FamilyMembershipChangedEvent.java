@@ -0,0 +1,14 @@
+package com.familring.apigateway.event;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+// family-service 에서 가족 생성, 가입, 탈퇴 시 Spring Cloud Bus 로 전달되는 이벤트
+// 이벤트 type 은 클래스 이름으로 구분하므로 family-service 의 이벤트와 클래스 이름, 필드를 맞춰야 함
+@Getter
+@NoArgsConstructor
+public class FamilyMembershipChangedEvent extends RemoteApplicationEvent {
+    private Long userId;
+    private Long familyId;
+}
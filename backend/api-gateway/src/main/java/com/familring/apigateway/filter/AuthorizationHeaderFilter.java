@@ -26,13 +26,19 @@ import static com.familring.apigateway.exception.ErrorDetail.*;
 @Log4j2
 public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<AuthorizationHeaderFilter.Config> {
 
+    private static final String USER_ID_HEADER = "X-User-ID";
+    private static final String FAMILY_ID_HEADER = "X-Family-ID";
+
+    private final FamilyContextCache familyContextCache;
+
     @Value("${jwt.secret-key}")
     private String secretKey;
     private SecretKey key;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public AuthorizationHeaderFilter() {
+    public AuthorizationHeaderFilter(FamilyContextCache familyContextCache) {
         super(Config.class);
+        this.familyContextCache = familyContextCache;
     }
 
     public static class Config {
@@ -52,17 +58,25 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<Auth
 
             Long userId = validateTokenAndGetUserId(jwt);
 
-            // 새로운 헤더를 추가한 요청 객체 생성
-            ServerHttpRequest newRequest = request.mutate()
-                    .header("X-User-ID", String.valueOf(userId))
-                    .build();
-
-            // 수정된 요청으로 교체한 새로운 ServerWebExchange 생성
-            ServerWebExchange newExchange = exchange.mutate()
-                    .request(newRequest)
-                    .build();
-
-            return chain.filter(newExchange);  // 새로운 exchange로 다음 필터 호출
+            // 회원의 familyId 조회 (캐시)
+            return familyContextCache.getFamilyId(userId).flatMap(familyId -> {
+                // 새로운 헤더를 추가한 요청 객체 생성
+                // X-Family-ID 는 gateway 가 조회한 값만 신뢰하므로 클라이언트가 보낸 값은 제거
+                ServerHttpRequest newRequest = request.mutate()
+                        .header(USER_ID_HEADER, String.valueOf(userId))
+                        .headers(headers -> {
+                            headers.remove(FAMILY_ID_HEADER);
+                            familyId.ifPresent(id -> headers.set(FAMILY_ID_HEADER, String.valueOf(id)));
+                        })
+                        .build();
+
+                // 수정된 요청으로 교체한 새로운 ServerWebExchange 생성
+                ServerWebExchange newExchange = exchange.mutate()
+                        .request(newRequest)
+                        .build();
+
+                return chain.filter(newExchange);  // 새로운 exchange로 다음 필터 호출
+            });
         });
     }
 
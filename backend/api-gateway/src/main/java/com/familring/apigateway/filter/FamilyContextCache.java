@@ -0,0 +1,147 @@
+package com.familring.apigateway.filter;
+
+import com.familring.apigateway.event.FamilyMembershipChangedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 회원별 familyId 캐시
+// 요청마다 각 서비스가 family-service 에 가족 정보를 조회하지 않도록 gateway 에서 한 번 조회해 X-Family-ID 헤더로 전달
+// 가족 생성, 가입, 탈퇴 시 family-service 가 보내는 Bus 이벤트로 해당 회원만 제거하고, ttl-ms 는 이벤트 유실 대비
+// 조회 중에 제거된 경우 조회 결과(변경 전 값)는 넣지 않음
+@Component
+@Log4j2
+public class FamilyContextCache {
+
+    private final WebClient webClient;
+    private final long ttlMs;
+    private final int maxSize;
+    private final Duration timeout;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter errorCounter;
+
+    // userId -> familyId (가족이 없는 회원은 empty)
+    private final Map<Long, CachedFamily> cache = new ConcurrentHashMap<>();
+
+    // 조회 중 제거된 경우 조회 결과를 넣지 않도록 제거할 때마다 증가
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public FamilyContextCache(WebClient.Builder loadBalancedWebClientBuilder, MeterRegistry meterRegistry,
+                              @Value("${familring.gateway.family-context.ttl-ms:60000}") long ttlMs,
+                              @Value("${familring.gateway.family-context.max-size:100000}") int maxSize,
+                              @Value("${familring.gateway.family-context.timeout-ms:1000}") long timeoutMs) {
+        this.webClient = loadBalancedWebClientBuilder.baseUrl("lb://family-service").build();
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+        this.timeout = Duration.ofMillis(timeoutMs);
+
+        this.hitCounter = Counter.builder("familring.gateway.family-context.requests").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("familring.gateway.family-context.requests").tag("result", "miss").register(meterRegistry);
+        this.errorCounter = Counter.builder("familring.gateway.family-context.requests").tag("result", "error").register(meterRegistry);
+        Gauge.builder("familring.gateway.family-context.size", cache, Map::size).register(meterRegistry);
+    }
+
+    // 회원의 familyId 조회 - 가족이 없거나 family-service 조회에 실패하면 empty (헤더 없이 전달)
+    public Mono<Optional<Long>> getFamilyId(Long userId) {
+        CachedFamily cached = cache.get(userId);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            hitCounter.increment();
+            return Mono.just(cached.familyId);
+        }
+
+        missCounter.increment();
+        long version = invalidations.get();
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/client/family").queryParam("userId", userId).build())
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(response -> {
+                    JsonNode familyId = response.path("data").path("familyId");
+                    return familyId.isNumber() ? Optional.of(familyId.asLong()) : Optional.<Long>empty();
+                })
+                .timeout(timeout)
+                .doOnNext(familyId -> putIfNotInvalidated(version, userId, familyId))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                        // 가족이 없는 회원 (가족 생성, 가입 이벤트로 제거됨)
+                        Optional<Long> noFamily = Optional.empty();
+                        putIfNotInvalidated(version, userId, noFamily);
+                        return Mono.just(noFamily);
+                    }
+                    return Mono.error(e);
+                })
+                .onErrorResume(e -> {
+                    // 조회 실패 시 헤더 없이 전달하면 각 서비스가 family-service 에 직접 조회
+                    errorCounter.increment();
+                    log.warn("[getFamilyId] 가족 정보 조회 실패 userId={}, error={}", userId, e.getMessage());
+                    return Mono.just(Optional.empty());
+                });
+    }
+
+    public void evict(Long userId) {
+        invalidations.incrementAndGet();
+        cache.remove(userId);
+    }
+
+    @EventListener
+    public void handleFamilyMembershipChanged(FamilyMembershipChangedEvent event) {
+        log.info("[handleFamilyMembershipChanged] 가족 정보 캐시 제거 userId={}, familyId={}", event.getUserId(), event.getFamilyId());
+        evict(event.getUserId());
+    }
+
+    private void putIfNotInvalidated(long version, Long userId, Optional<Long> familyId) {
+        if (invalidations.get() != version) {
+            return;
+        }
+        if (cache.size() >= maxSize) {
+            evictExpired();
+        }
+        if (cache.size() >= maxSize) {
+            // 만료된 항목이 없으면 임의의 항목 제거
+            Iterator<Long> iterator = cache.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        cache.put(userId, new CachedFamily(familyId, System.currentTimeMillis() + ttlMs));
+
+        // 확인 후 넣기 전에 제거된 경우
+        if (invalidations.get() != version) {
+            cache.remove(userId);
+        }
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(cached -> cached.expiresAt <= now);
+    }
+
+    private static class CachedFamily {
+        private final Optional<Long> familyId;
+        private final long expiresAt;
+
+        private CachedFamily(Optional<Long> familyId, long expiresAt) {
+            this.familyId = familyId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
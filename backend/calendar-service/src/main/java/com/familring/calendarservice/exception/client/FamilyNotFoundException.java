@@ -0,0 +1,10 @@
+package com.familring.calendarservice.exception.client;
+
+import com.familring.calendarservice.exception.base.ApplicationException;
+import com.familring.calendarservice.exception.constant.ErrorDetail;
+
+public class FamilyNotFoundException extends ApplicationException {
+    public FamilyNotFoundException() {
+        super(ErrorDetail.FAMILY_NOT_FOUND);
+    }
+}
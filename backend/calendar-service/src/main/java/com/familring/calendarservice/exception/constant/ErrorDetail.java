@@ -13,7 +13,10 @@ public enum ErrorDetail {
 
     // Daily
     DAILY_NOT_FOUND("D0001", HttpStatus.NOT_FOUND, "존재하지 않는 일상입니다."),
-    INVALID_DAILY_REQUEST("D0002", HttpStatus.BAD_REQUEST, "유효하지 않은 일상 요청입니다.");
+    INVALID_DAILY_REQUEST("D0002", HttpStatus.BAD_REQUEST, "유효하지 않은 일상 요청입니다."),
+
+    // Family
+    FAMILY_NOT_FOUND("F0001", HttpStatus.NOT_FOUND, "가족을 찾지 못했습니다.");
 
     private final String errorCode;
     private final HttpStatus httpStatus;
@@ -6,7 +6,7 @@ import com.familring.calendarservice.dto.response.DailyDateResponse;
 import com.familring.calendarservice.dto.response.DailyResponse;
 import com.familring.calendarservice.exception.daily.DailyNotFoundException;
 import com.familring.calendarservice.exception.daily.InvalidDailyRequestException;
-import com.familring.calendarservice.service.client.FamilyServiceFeignClient;
+import com.familring.calendarservice.service.client.FamilyIdResolver;
 import com.familring.calendarservice.repository.DailyRepository;
 import com.familring.calendarservice.service.client.FileServiceFeignClient;
 import com.familring.calendarservice.service.client.UserServiceFeignClient;
@@ -30,7 +30,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DailyService {
 
-    private final FamilyServiceFeignClient familyServiceFeignClient;
+    private final FamilyIdResolver familyIdResolver;
     private final FileServiceFeignClient fileServiceFeignClient;
     private final UserServiceFeignClient userServiceFeignClient;
     private final DailyRepository dailyRepository;
@@ -39,8 +39,7 @@ public class DailyService {
     private String dailyPhotoPath;
 
     public List<DailyDateResponse> getDailiesByYearAndMonth(int year, int month, Long userId) {
-        Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData()
-                .getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         return dailyRepository.findByYearAndMonthAndFamilyId(year, month, familyId).stream().map(
                 daily -> DailyDateResponse.builder().id(daily.getId()).createdAt(daily.getCreatedAt()).build()).toList();
@@ -48,7 +47,7 @@ public class DailyService {
 
     @Transactional
     public void createDaily(String content, MultipartFile image, Long userId) {
-        Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData().getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         List<MultipartFile> files = new ArrayList<>();
         files.add(image);
@@ -112,7 +111,7 @@ public class DailyService {
         List<Daily> dailies = dailyRepository.findAllById(dailyIds);
 
         Map<Long, UserInfoResponse> userMap = userServiceFeignClient
-                .getAllUser(dailies.stream().map(Daily::getAuthorId).distinct().toList()).getData()
+                .getAllUserProfile(dailies.stream().map(Daily::getAuthorId).distinct().toList()).getData()
                 .stream().collect(Collectors.toMap(UserInfoResponse::getUserId, u -> u));
 
         return dailies.stream().map(daily -> {
@@ -125,14 +124,13 @@ public class DailyService {
     }
 
     public List<DailyResponse> getDailiesByDate(int year, int month, int day, Long userId) {
-        Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData()
-                .getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         LocalDate date = LocalDate.of(year, month, day);
         List<Daily> dailies = dailyRepository.findByDateAndFamilyId(date, familyId);
 
         Map<Long, UserInfoResponse> userMap = userServiceFeignClient
-                .getAllUser(dailies.stream().map(Daily::getAuthorId).distinct().toList()).getData()
+                .getAllUserProfile(dailies.stream().map(Daily::getAuthorId).distinct().toList()).getData()
                 .stream().collect(Collectors.toMap(UserInfoResponse::getUserId, u -> u));
 
         return dailies.stream().map(daily -> {
@@ -14,6 +14,7 @@ import com.familring.calendarservice.exception.schedule.InvalidScheduleRequestEx
 import com.familring.calendarservice.exception.schedule.ScheduleNotFoundException;
 import com.familring.calendarservice.repository.ScheduleUserRepository;
 import com.familring.calendarservice.service.client.AlbumServiceFeignClient;
+import com.familring.calendarservice.service.client.FamilyIdResolver;
 import com.familring.calendarservice.service.client.FamilyServiceFeignClient;
 import com.familring.calendarservice.repository.ScheduleRepository;
 import com.familring.calendarservice.service.client.NotificationServiceFeignClient;
@@ -37,6 +38,7 @@ import static com.familring.calendarservice.dto.client.NotificationType.MENTION_
 public class ScheduleService {
 
     private final FamilyServiceFeignClient familyServiceFeignClient;
+    private final FamilyIdResolver familyIdResolver;
     private final AlbumServiceFeignClient albumServiceFeignClient;
     private final ScheduleRepository scheduleRepository;
     private final ScheduleUserRepository scheduleUserRepository;
@@ -44,7 +46,7 @@ public class ScheduleService {
     private final UserServiceFeignClient userServiceFeignClient;
 
     public List<ScheduleDateResponse> getSchedulesByYearAndMonth(int year, int month, Long userId) {
-        Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData().getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
         return scheduleRepository.findByYearAndMonthAndFamilyId(year, month, familyId).stream().map(
                 schedule -> ScheduleDateResponse.builder().id(schedule.getId()).title(schedule.getTitle()).startTime(schedule.getStartTime())
                         .endTime(schedule.getEndTime()).color(schedule.getColor()).build()).toList();
@@ -85,7 +87,7 @@ public class ScheduleService {
 
     @Transactional
     public void createSchedule(ScheduleRequest request, Long userId) {
-        Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData().getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         Schedule schedule = Schedule.builder()
                 .familyId(familyId)
@@ -133,7 +135,7 @@ public class ScheduleService {
     public void deleteSchedule(Long scheduleId, Long userId) {
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(ScheduleNotFoundException::new);
 
-        Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData().getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
         if (!schedule.getFamilyId().equals(familyId)) {
             throw new InvalidScheduleRequestException();
         }
@@ -167,7 +169,7 @@ public class ScheduleService {
     public void updateSchedule(Long scheduleId, ScheduleUpdateRequest request, Long userId) {
         Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(ScheduleNotFoundException::new);
 
-        Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData().getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
         if (!schedule.getFamilyId().equals(familyId)) {
             throw new InvalidScheduleRequestException();
         }
@@ -234,7 +236,7 @@ public class ScheduleService {
     }
 
     public List<ScheduleResponse> getSchedulesByDate(int year, int month, int day, Long userId) {
-        Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData().getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         LocalDateTime startOfDay = LocalDateTime.of(year, month, day, 0, 0, 0);
         LocalDateTime endOfDay = LocalDateTime.of(year, month, day, 23, 59, 59);
@@ -17,6 +17,10 @@ public interface UserServiceFeignClient {
     @PostMapping("/client/users")
     BaseResponse<List<UserInfoResponse>> getAllUser(@RequestBody List<Long> userIds);
 
+    // 닉네임, 띠, 배경색 등 프로필 컬럼만 조회 (FCM 토큰, 안읽음 알림 수 제외)
+    @PostMapping("/client/users?fields=PROFILE")
+    BaseResponse<List<UserInfoResponse>> getAllUserProfile(@RequestBody List<Long> userIds);
+
     @GetMapping("/client/users/{userId}")
     BaseResponse<UserInfoResponse> getUser(@PathVariable Long userId);
 }
@@ -0,0 +1,45 @@
+-- 부하 테스트용 가족 데이터
+-- chat-load-test application.yml 의 기본값(rooms, clients-per-room, first-room-id, first-user-id)과 같은 구성
+-- roomId = first-room-id + i, userId = first-user-id + i * clients-per-room + j
+-- 설정을 바꿔서 실행하면 아래 값도 같이 바꾸고 컨테이너를 다시 생성 (docker compose down -v)
+SET @rooms = 10;
+SET @clients_per_room = 4;
+SET @first_room_id = 1;
+SET @first_user_id = 1;
+
+SET SESSION cte_max_recursion_depth = 1000000;
+
+CREATE TABLE family
+(
+    family_id                   BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    family_code                 VARCHAR(20) NOT NULL UNIQUE,
+    family_count                INT         NOT NULL,
+    family_communication_status INT         NOT NULL,
+    family_created_at           DATETIME    NOT NULL
+);
+
+CREATE TABLE family_user
+(
+    family_id BIGINT NOT NULL,
+    user_id   BIGINT NOT NULL,
+    PRIMARY KEY (family_id, user_id),
+    INDEX idx_family_user_user_id (user_id)
+);
+
+INSERT INTO family (family_id, family_code, family_count, family_communication_status, family_created_at)
+WITH RECURSIVE room (i) AS (SELECT 0
+                            UNION ALL
+                            SELECT i + 1 FROM room WHERE i + 1 < @rooms)
+SELECT @first_room_id + i, CONCAT('LOAD', @first_room_id + i), @clients_per_room, 75, NOW()
+FROM room;
+
+INSERT INTO family_user (family_id, user_id)
+WITH RECURSIVE room (i) AS (SELECT 0
+                            UNION ALL
+                            SELECT i + 1 FROM room WHERE i + 1 < @rooms),
+               client (j) AS (SELECT 0
+                              UNION ALL
+                              SELECT j + 1 FROM client WHERE j + 1 < @clients_per_room)
+SELECT @first_room_id + room.i, @first_user_id + room.i * @clients_per_room + client.j
+FROM room
+         CROSS JOIN client;
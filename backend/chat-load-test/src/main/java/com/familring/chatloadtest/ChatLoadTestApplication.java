@@ -0,0 +1,13 @@
+package com.familring.chatloadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ChatLoadTestApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ChatLoadTestApplication.class, args);
+	}
+
+}
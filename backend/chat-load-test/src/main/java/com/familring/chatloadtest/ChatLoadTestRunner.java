@@ -0,0 +1,224 @@
+package com.familring.chatloadtest;
+
+import com.familring.chatloadtest.client.LoadTestClient;
+import com.familring.chatloadtest.config.LoadTestProperties;
+import com.familring.chatloadtest.report.LatencyRecorder;
+import com.familring.chatloadtest.report.LoadTestReport;
+import com.familring.chatloadtest.report.RedisCommandCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// 채팅방 N개 x 클라이언트 M명으로 family-service 에 부하를 주고 전송 -> 브로드캐스트 지연 시간을 리포트로 저장
+// 접속, 전송, 종료 단계별 Redis 왕복 수도 함께 저장 (변경 전/후 리포트 비교)
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ChatLoadTestRunner implements CommandLineRunner {
+
+    private final LoadTestProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(String... args) throws Exception {
+        int totalClients = properties.getRooms() * properties.getClientsPerRoom();
+        log.info("[run] 부하 테스트 시작 url={}, transport={}, rooms={}, clientsPerRoom={}, messagesPerClient={}",
+                properties.getUrl(), properties.getTransport(), properties.getRooms(), properties.getClientsPerRoom(), properties.getMessagesPerClient());
+
+        WebSocketStompClient stompClient = properties.isNativeTransport()
+                ? new WebSocketStompClient(new StandardWebSocketClient())
+                : new WebSocketStompClient(new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        RedisCommandCounter redisCounter = properties.isRedisEnabled()
+                ? new RedisCommandCounter(properties.getRedisHost(), properties.getRedisPort())
+                : null;
+        ExecutorService executor = Executors.newFixedThreadPool(totalClients);
+
+        try {
+            // 1. 모든 클라이언트 접속 및 구독
+            Map<String, Long> beforeConnect = snapshotRedis(redisCounter);
+            List<LoadTestClient> clients = new ArrayList<>(totalClients);
+            for (int room = 0; room < properties.getRooms(); room++) {
+                for (int client = 0; client < properties.getClientsPerRoom(); client++) {
+                    clients.add(new LoadTestClient(properties.roomIdOf(room), properties.userIdOf(room, client), stompClient, recorder));
+                }
+            }
+            List<Future<?>> connections = new ArrayList<>(totalClients);
+            for (LoadTestClient client : clients) {
+                connections.add(executor.submit(() -> {
+                    client.connect(properties.getUrl(), properties.isNativeTransport() && properties.isDeflate());
+                    return null;
+                }));
+            }
+            for (Future<?> connection : connections) {
+                connection.get();
+            }
+            log.info("[run] 클라이언트 {}명 접속 완료", totalClients);
+
+            // 구독 처리가 끝날 때까지 대기
+            Thread.sleep(properties.getWarmupMs());
+            Map<String, Long> afterConnect = snapshotRedis(redisCounter);
+
+            // 2. 메시지 전송 (채팅방의 첫 번째 클라이언트가 투표 생성)
+            LocalDateTime startedAt = LocalDateTime.now();
+            long start = System.nanoTime();
+
+            List<Future<?>> senders = new ArrayList<>(totalClients);
+            for (int i = 0; i < clients.size(); i++) {
+                LoadTestClient client = clients.get(i);
+                boolean voteMaker = i % properties.getClientsPerRoom() == 0;
+                senders.add(executor.submit(() -> {
+                    sendMessages(client, voteMaker);
+                    return null;
+                }));
+            }
+            for (Future<?> sender : senders) {
+                sender.get();
+            }
+
+            // 3. 남은 브로드캐스트 수신 대기
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getDrainTimeoutMs());
+            while (recorder.getDeliveries() < expectedDeliveries(recorder) && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Map<String, Long> afterSend = snapshotRedis(redisCounter);
+
+            // 4. 접속 종료 (퇴장 처리가 끝날 때까지 대기)
+            clients.forEach(LoadTestClient::disconnect);
+            if (redisCounter != null) {
+                Thread.sleep(properties.getWarmupMs());
+            }
+            Map<String, Long> afterDisconnect = snapshotRedis(redisCounter);
+
+            // 5. 리포트 저장
+            LoadTestReport.RedisRoundTrips redisRoundTrips = redisCounter == null ? null : LoadTestReport.RedisRoundTrips.builder()
+                    .connect(redisPhase(totalClients, beforeConnect, afterConnect))
+                    .send(redisPhase(recorder.getSent(), afterConnect, afterSend))
+                    .disconnect(redisPhase(totalClients, afterSend, afterDisconnect))
+                    .build();
+            LoadTestReport report = createReport(recorder, startedAt, durationMs, redisRoundTrips);
+            File reportFile = new File(properties.getReportPath());
+            if (reportFile.getParentFile() != null) {
+                reportFile.getParentFile().mkdirs();
+            }
+            objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, report);
+
+            log.info("[run] 부하 테스트 완료 sent={}, deliveries={}/{}, p50={}ms, p99={}ms, p999={}ms, report={}",
+                    report.getSent(), report.getDeliveries(), report.getExpectedDeliveries(),
+                    report.getLatencyMs().getP50(), report.getLatencyMs().getP99(), report.getLatencyMs().getP999(),
+                    reportFile.getAbsolutePath());
+            if (redisRoundTrips != null) {
+                log.info("[run] Redis 왕복 수 connect={}/접속, send={}/전송, disconnect={}/종료",
+                        redisRoundTrips.getConnect().getCommandsPerOperation(),
+                        redisRoundTrips.getSend().getCommandsPerOperation(),
+                        redisRoundTrips.getDisconnect().getCommandsPerOperation());
+            }
+        } finally {
+            executor.shutdownNow();
+            stompClient.stop();
+        }
+
+        // user-service stub 서버까지 종료
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+    private void sendMessages(LoadTestClient client, boolean voteMaker) throws InterruptedException {
+        int messages = properties.getMessagesPerClient();
+        int votes = voteMaker ? properties.getVotesPerRoom() : 0;
+        int voteInterval = votes > 0 ? Math.max(messages / (votes + 1), 1) : 0;
+        int votesCreated = 0;
+
+        for (int seq = 0; seq < messages; seq++) {
+            if (votesCreated < votes && seq > 0 && seq % voteInterval == 0) {
+                client.createVote(seq);
+                votesCreated++;
+            } else {
+                client.sendMessage(seq);
+            }
+            Thread.sleep(properties.getSendIntervalMs());
+        }
+    }
+
+    private long expectedDeliveries(LatencyRecorder recorder) {
+        return recorder.getSent() * (properties.getClientsPerRoom() - 1);
+    }
+
+    private Map<String, Long> snapshotRedis(RedisCommandCounter redisCounter) throws IOException {
+        return redisCounter == null ? Map.of() : redisCounter.snapshot();
+    }
+
+    private LoadTestReport.RedisPhase redisPhase(long operations, Map<String, Long> before, Map<String, Long> after) {
+        Map<String, Long> commandCalls = RedisCommandCounter.diff(before, after);
+        long commands = commandCalls.values().stream().mapToLong(Long::longValue).sum();
+
+        return LoadTestReport.RedisPhase.builder()
+                .operations(operations)
+                .commands(commands)
+                .commandsPerOperation(operations == 0 ? 0 : (double) commands / operations)
+                .commandCalls(commandCalls)
+                .build();
+    }
+
+    private LoadTestReport createReport(LatencyRecorder recorder, LocalDateTime startedAt, long durationMs,
+                                        LoadTestReport.RedisRoundTrips redisRoundTrips) {
+        Histogram histogram = recorder.getHistogram();
+        double seconds = Math.max(durationMs, 1) / 1000.0;
+
+        return LoadTestReport.builder()
+                .startedAt(startedAt.toString())
+                .url(properties.getUrl())
+                .transport(properties.getTransport())
+                .rooms(properties.getRooms())
+                .clientsPerRoom(properties.getClientsPerRoom())
+                .messagesPerClient(properties.getMessagesPerClient())
+                .sendIntervalMs(properties.getSendIntervalMs())
+                .votesPerRoom(properties.getVotesPerRoom())
+                .durationMs(durationMs)
+                .sent(recorder.getSent())
+                .expectedDeliveries(expectedDeliveries(recorder))
+                .deliveries(recorder.getDeliveries())
+                .errors(recorder.getErrors())
+                .sendThroughputPerSecond(recorder.getSent() / seconds)
+                .deliveryThroughputPerSecond(recorder.getDeliveries() / seconds)
+                .latencyMs(LoadTestReport.Latency.builder()
+                        .p50(toMillis(histogram.getValueAtPercentile(50)))
+                        .p90(toMillis(histogram.getValueAtPercentile(90)))
+                        .p99(toMillis(histogram.getValueAtPercentile(99)))
+                        .p999(toMillis(histogram.getValueAtPercentile(99.9)))
+                        .max(toMillis(histogram.getMaxValue()))
+                        .mean(histogram.getMean() / 1000.0)
+                        .build())
+                .redisRoundTrips(redisRoundTrips)
+                .build();
+    }
+
+    private double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
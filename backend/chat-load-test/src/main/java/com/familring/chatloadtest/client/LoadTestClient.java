@@ -0,0 +1,152 @@
+package com.familring.chatloadtest.client;
+
+import com.familring.chatloadtest.report.LatencyRecorder;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 채팅방에 접속한 STOMP 클라이언트 한 명
+// connect -> /room/{roomId} 구독 -> 메시지/투표 전송 -> disconnect
+@Log4j2
+public class LoadTestClient {
+
+    private static final String TOKEN_PREFIX = "lt-";
+
+    @Getter
+    private final Long roomId;
+    @Getter
+    private final Long userId;
+    private final WebSocketStompClient stompClient;
+    private final LatencyRecorder recorder;
+
+    private StompSession session;
+    private int voteResponseSeq;
+
+    public LoadTestClient(Long roomId, Long userId, WebSocketStompClient stompClient, LatencyRecorder recorder) {
+        this.roomId = roomId;
+        this.userId = userId;
+        this.stompClient = stompClient;
+        this.recorder = recorder;
+    }
+
+    public void connect(String url, boolean deflate) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("X-User-ID", String.valueOf(userId));
+
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        if (deflate) {
+            handshakeHeaders.setSecWebSocketExtensions(List.of(new WebSocketExtension("permessage-deflate")));
+        }
+
+        session = stompClient.connectAsync(url, handshakeHeaders, connectHeaders, new StompSessionHandlerAdapter() {
+            @Override
+            public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception) {
+                log.warn("[handleException] roomId={}, userId={}", roomId, userId, exception);
+                recorder.markError();
+            }
+
+            @Override
+            public void handleTransportError(StompSession session, Throwable exception) {
+                log.warn("[handleTransportError] roomId={}, userId={}", roomId, userId, exception);
+                recorder.markError();
+            }
+        }).get(10, TimeUnit.SECONDS);
+
+        session.subscribe("/room/" + roomId, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return JsonNode.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                onChat((JsonNode) payload);
+            }
+        });
+    }
+
+    public void sendMessage(int seq) {
+        Map<String, Object> request = createRequest("MESSAGE", token(seq));
+        send("/send/chat.send", request);
+    }
+
+    public void createVote(int seq) {
+        Map<String, Object> request = createRequest("VOTE", token(seq));
+        request.put("isVote", true);
+        request.put("voteTitle", "부하 테스트 투표 " + seq);
+        send("/send/chat.send", request);
+    }
+
+    public void disconnect() {
+        if (session != null && session.isConnected()) {
+            session.disconnect();
+        }
+    }
+
+    private void onChat(JsonNode chat) {
+        long senderId = chat.path("senderId").asLong();
+        if (senderId == userId) {
+            return;
+        }
+
+        String content = chat.path("content").asText("");
+        if (content.startsWith(TOKEN_PREFIX)) {
+            recorder.markReceived(content);
+        }
+
+        // 다른 사람이 만든 투표에 응답
+        if ("VOTE".equals(chat.path("messageType").asText())) {
+            String voteId = chat.path("vote").path("voteId").asText(null);
+            if (voteId != null) {
+                respondVote(voteId);
+            }
+        }
+    }
+
+    private void respondVote(String voteId) {
+        Map<String, Object> request = createRequest("VOTE_RESPONSE", token("vote-" + voteResponseSeq++));
+        request.put("voteId", voteId);
+        request.put("isVoteResponse", true);
+        request.put("responseOfVote", userId % 2 == 0 ? "찬성" : "반대");
+        send("/send/chat.vote", request);
+    }
+
+    private Map<String, Object> createRequest(String messageType, String content) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("roomId", roomId);
+        request.put("messageType", messageType);
+        request.put("senderId", userId);
+        request.put("content", content);
+        return request;
+    }
+
+    // 같은 세션에 동시에 프레임을 쓰지 않도록 전송은 순서대로 처리
+    private synchronized void send(String destination, Map<String, Object> request) {
+        String token = (String) request.get("content");
+        recorder.markSent(token);
+        try {
+            session.send(destination, request);
+        } catch (Exception e) {
+            log.warn("[send] 전송 실패 roomId={}, userId={}, destination={}", roomId, userId, destination, e);
+            recorder.markError();
+        }
+    }
+
+    private String token(Object seq) {
+        return TOKEN_PREFIX + userId + "-" + seq;
+    }
+}
@@ -0,0 +1,73 @@
+package com.familring.chatloadtest.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+public class LoadTestProperties {
+
+    @Value("${loadtest.url:http://localhost:8087/ws-stomp}")
+    private String url;
+
+    // sockjs: SockJS 엔드포인트(/ws-stomp), native: 웹소켓 엔드포인트(/ws-stomp-native)
+    @Value("${loadtest.transport:sockjs}")
+    private String transport;
+
+    // native 연결 시 permessage-deflate 압축 요청 여부
+    @Value("${loadtest.deflate:true}")
+    private boolean deflate;
+
+    @Value("${loadtest.rooms:10}")
+    private int rooms;
+
+    @Value("${loadtest.clients-per-room:4}")
+    private int clientsPerRoom;
+
+    @Value("${loadtest.first-room-id:1}")
+    private long firstRoomId;
+
+    @Value("${loadtest.first-user-id:1}")
+    private long firstUserId;
+
+    @Value("${loadtest.messages-per-client:100}")
+    private int messagesPerClient;
+
+    @Value("${loadtest.send-interval-ms:100}")
+    private long sendIntervalMs;
+
+    @Value("${loadtest.votes-per-room:1}")
+    private int votesPerRoom;
+
+    @Value("${loadtest.warmup-ms:1000}")
+    private long warmupMs;
+
+    @Value("${loadtest.drain-timeout-ms:5000}")
+    private long drainTimeoutMs;
+
+    @Value("${loadtest.report-path:build/chat-load-report.json}")
+    private String reportPath;
+
+    // 단계별 Redis 왕복 수 측정 (family-service 가 사용하는 Redis 에 INFO commandstats 조회)
+    @Value("${loadtest.redis.enabled:true}")
+    private boolean redisEnabled;
+
+    @Value("${loadtest.redis.host:localhost}")
+    private String redisHost;
+
+    @Value("${loadtest.redis.port:6379}")
+    private int redisPort;
+
+    public boolean isNativeTransport() {
+        return "native".equalsIgnoreCase(transport);
+    }
+
+    public long roomIdOf(int roomIndex) {
+        return firstRoomId + roomIndex;
+    }
+
+    public long userIdOf(int roomIndex, int clientIndex) {
+        return firstUserId + (long) roomIndex * clientsPerRoom + clientIndex;
+    }
+}
@@ -0,0 +1,59 @@
+package com.familring.chatloadtest.report;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 전송 -> 같은 채팅방 다른 구독자 수신까지의 지연 시간 기록
+// 모든 클라이언트가 같은 프로세스에 있으므로 System.nanoTime 으로 측정
+public class LatencyRecorder {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram histogram = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final Map<String, Long> sentAt = new ConcurrentHashMap<>();
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong deliveries = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    public void markSent(String token) {
+        sentAt.put(token, System.nanoTime());
+        sent.incrementAndGet();
+    }
+
+    public void markReceived(String token) {
+        Long sentNanos = sentAt.get(token);
+        if (sentNanos == null) {
+            return;
+        }
+
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentNanos);
+        histogram.recordValue(Math.min(latencyMicros, MAX_LATENCY_MICROS));
+        deliveries.incrementAndGet();
+    }
+
+    public void markError() {
+        errors.incrementAndGet();
+    }
+
+    public long getSent() {
+        return sent.get();
+    }
+
+    public long getDeliveries() {
+        return deliveries.get();
+    }
+
+    public long getErrors() {
+        return errors.get();
+    }
+
+    public Histogram getHistogram() {
+        return histogram;
+    }
+}
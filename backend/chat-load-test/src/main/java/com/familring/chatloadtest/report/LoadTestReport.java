@@ -0,0 +1,65 @@
+package com.familring.chatloadtest.report;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+// 부하 테스트 결과 (JSON 으로 저장해 변경 전/후 비교)
+@Getter
+@Builder
+public class LoadTestReport {
+    private String startedAt;
+    private String url;
+    private String transport;
+
+    // 부하 구성
+    private int rooms;
+    private int clientsPerRoom;
+    private int messagesPerClient;
+    private long sendIntervalMs;
+    private int votesPerRoom;
+
+    // 결과
+    private long durationMs;
+    private long sent; // 전송한 메시지 수
+    private long expectedDeliveries; // 전송 수 x (채팅방 구독자 수 - 1)
+    private long deliveries; // 다른 구독자가 수신한 수
+    private long errors;
+    private double sendThroughputPerSecond;
+    private double deliveryThroughputPerSecond;
+
+    // 전송 -> 브로드캐스트 수신 지연 시간 (ms)
+    private Latency latencyMs;
+
+    // 단계별 Redis 왕복 수 (loadtest.redis.enabled=false 이면 null)
+    private RedisRoundTrips redisRoundTrips;
+
+    @Getter
+    @Builder
+    public static class Latency {
+        private double p50;
+        private double p90;
+        private double p99;
+        private double p999;
+        private double max;
+        private double mean;
+    }
+
+    @Getter
+    @Builder
+    public static class RedisRoundTrips {
+        private RedisPhase connect;
+        private RedisPhase send;
+        private RedisPhase disconnect;
+    }
+
+    @Getter
+    @Builder
+    public static class RedisPhase {
+        private long operations; // 단계의 동작 수 (접속 수, 전송 수, 종료 수)
+        private long commands; // 단계 동안 처리된 Redis 명령 수
+        private double commandsPerOperation; // 동작 한 번당 Redis 왕복 수
+        private Map<String, Long> commandCalls; // 명령별 처리 수
+    }
+}
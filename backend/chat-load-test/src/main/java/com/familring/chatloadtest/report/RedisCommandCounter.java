@@ -0,0 +1,97 @@
+package com.familring.chatloadtest.report;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// family-service 가 사용하는 Redis 의 명령별 처리 횟수 (INFO commandstats)
+// 단계(connect, send, disconnect) 전후 차이로 동작 한 번당 Redis 왕복 수를 계산
+// Lua 스크립트(EVALSHA)는 한 번의 왕복이므로 명령 수 = 왕복 수 (파이프라인은 명령마다 집계되므로 실제 왕복보다 크게 나옴)
+public class RedisCommandCounter {
+
+    private static final String INFO_COMMAND = "*2\r\n$4\r\nINFO\r\n$12\r\ncommandstats\r\n";
+    private static final String STAT_PREFIX = "cmdstat_";
+
+    private final String host;
+    private final int port;
+
+    public RedisCommandCounter(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    // 명령 이름 -> 누적 호출 수
+    public Map<String, Long> snapshot() throws IOException {
+        try (Socket socket = new Socket(host, port)) {
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write(INFO_COMMAND.getBytes(StandardCharsets.US_ASCII));
+            outputStream.flush();
+
+            return parse(readBulkString(socket.getInputStream()));
+        }
+    }
+
+    // 두 snapshot 의 차이 (INFO 자신은 제외)
+    public static Map<String, Long> diff(Map<String, Long> before, Map<String, Long> after) {
+        Map<String, Long> diff = new TreeMap<>();
+        for (Map.Entry<String, Long> entry : after.entrySet()) {
+            long calls = entry.getValue() - before.getOrDefault(entry.getKey(), 0L);
+            if (calls > 0 && !"info".equals(entry.getKey())) {
+                diff.put(entry.getKey(), calls);
+            }
+        }
+        return diff;
+    }
+
+    private String readBulkString(InputStream inputStream) throws IOException {
+        String header = readLine(inputStream);
+        if (!header.startsWith("$")) {
+            throw new IOException("INFO 응답 형식이 올바르지 않습니다: " + header);
+        }
+
+        int length = Integer.parseInt(header.substring(1));
+        byte[] body = inputStream.readNBytes(length);
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private String readLine(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int previous = -1;
+        int current;
+        while ((current = inputStream.read()) != -1) {
+            if (previous == '\r' && current == '\n') {
+                byte[] bytes = line.toByteArray();
+                return new String(bytes, 0, bytes.length - 1, StandardCharsets.US_ASCII);
+            }
+            line.write(current);
+            previous = current;
+        }
+        throw new IOException("Redis 연결이 종료되었습니다.");
+    }
+
+    // cmdstat_evalsha:calls=12,usec=345,usec_per_call=28.75,...
+    private Map<String, Long> parse(String info) {
+        Map<String, Long> calls = new HashMap<>();
+        for (String line : info.split("\r\n")) {
+            if (!line.startsWith(STAT_PREFIX)) {
+                continue;
+            }
+
+            int nameEnd = line.indexOf(':');
+            int callsStart = line.indexOf("calls=", nameEnd);
+            int callsEnd = line.indexOf(',', callsStart);
+            if (nameEnd < 0 || callsStart < 0) {
+                continue;
+            }
+            calls.put(line.substring(STAT_PREFIX.length(), nameEnd),
+                    Long.parseLong(line.substring(callsStart + "calls=".length(), callsEnd < 0 ? line.length() : callsEnd)));
+        }
+        return calls;
+    }
+}
@@ -0,0 +1,16 @@
+package com.familring.chatloadtest.stub;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// user-service UserInfoResponse 와 같은 형태의 stub 응답
+@Getter
+@Builder
+public class StubUserInfoResponse {
+    private Long userId;
+    private String userKakaoId;
+    private String userNickname;
+    private String userFace;
+    private String userColor;
+    private String userEmotion;
+}
@@ -0,0 +1,43 @@
+package com.familring.chatloadtest.stub;
+
+import com.familring.common_module.dto.BaseResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// 부하 테스트 중 family-service 의 user-service Feign 호출을 받는 stub
+// family-service 에서 spring.cloud.openfeign.client.config.user-service.url 을 이 서버 주소로 지정해서 사용
+@RestController
+@RequestMapping("/client/users")
+@Log4j2
+public class UserServiceStubController {
+
+    @PostMapping
+    public ResponseEntity<BaseResponse<List<StubUserInfoResponse>>> getAllUser(@RequestBody List<Long> userIds) {
+        log.debug("[getAllUser] userIds: {}", userIds);
+        List<StubUserInfoResponse> response = userIds.stream().map(this::createUser).toList();
+
+        return ResponseEntity.ok(BaseResponse.create(HttpStatus.OK.value(), "회원 정보를 모두 성공적으로 조회 했습니다.", response));
+    }
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<BaseResponse<StubUserInfoResponse>> getUser(@PathVariable Long userId) {
+        log.debug("[getUser] userId: {}", userId);
+
+        return ResponseEntity.ok(BaseResponse.create(HttpStatus.OK.value(), "회원 정보를 성공적으로 조회 했습니다.", createUser(userId)));
+    }
+
+    private StubUserInfoResponse createUser(Long userId) {
+        return StubUserInfoResponse.builder()
+                .userId(userId)
+                .userKakaoId("loadtest-" + userId)
+                .userNickname("부하테스트" + userId)
+                .userFace("")
+                .userColor("0xFFFEE222")
+                .userEmotion("기쁨")
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.familring.common_module.client;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+// api-gateway 가 X-User-ID 와 함께 전달한 X-Family-ID 헤더 조회
+// 헤더가 없으면(가족이 없는 회원, 내부 호출, 스케줄러) 각 서비스가 family-service 에 조회
+public final class FamilyIdHeader {
+
+    public static final String USER_ID_HEADER = "X-User-ID";
+    public static final String FAMILY_ID_HEADER = "X-Family-ID";
+
+    private FamilyIdHeader() {
+    }
+
+    // 현재 요청의 familyId 헤더 (헤더의 회원과 조회하려는 회원이 같을 때만 사용, 없으면 null)
+    public static Long find(Long userId) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+
+        HttpServletRequest request = attributes.getRequest();
+        String userIdHeader = request.getHeader(USER_ID_HEADER);
+        String familyIdHeader = request.getHeader(FAMILY_ID_HEADER);
+        if (familyIdHeader == null || !String.valueOf(userId).equals(userIdHeader)) {
+            return null;
+        }
+
+        try {
+            return Long.valueOf(familyIdHeader);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.familring.familyservice.config.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 채팅방별 단일 스레드 실행기
+// roomId 를 lane 하나에 고정해 같은 채팅방의 전송, 투표, 읽음, 입장/퇴장 작업은 순서대로 실행하고
+// 서로 다른 채팅방은 lane 수만큼 병렬로 실행
+// lane 마다 queue-capacity 개까지만 대기하고, 가득 차면 RejectedExecutionException (요청한 클라이언트에 오류로 전달)
+// lane 에서는 Redis/Mongo 작업만 하고 Feign, MySQL 조회(구성원 스냅샷 생성 등)는 lane 밖에서 처리
+// 종료 시 lane 이 먼저 비워진 뒤 write-behind 가 종료되도록 write-behind 에 의존 (의존하는 빈이 먼저 종료됨)
+@Component
+@DependsOn("chatWriteBehindService")
+@Log4j2
+public class ChatRoomExecutor {
+
+    private final ThreadPoolExecutor[] lanes;
+
+    public ChatRoomExecutor(MeterRegistry meterRegistry,
+                            @Value("${familring.chat.room-executor.lanes:16}") int laneCount,
+                            @Value("${familring.chat.room-executor.queue-capacity:10000}") int queueCapacity) {
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            String threadName = "chat-room-lane-" + i;
+            Counter rejectedCounter = Counter.builder("familring.chat.room-executor.rejected")
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+            ThreadPoolExecutor lane = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            }, (runnable, executor) -> {
+                rejectedCounter.increment();
+                throw new RejectedExecutionException(threadName + " 대기 작업 수 초과 (" + queueCapacity + ")");
+            });
+            lanes[i] = lane;
+
+            // lane 별 대기 작업 수
+            Gauge.builder("familring.chat.room-executor.lane.depth", lane, executor -> executor.getQueue().size())
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        log.info("[ChatRoomExecutor] 채팅방 실행기 생성 lanes={}, queueCapacity={}", laneCount, queueCapacity);
+    }
+
+    public void execute(Long roomId, Runnable task) {
+        laneOf(roomId).execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("[execute] 채팅방 작업 실패 roomId={}", roomId, e);
+            }
+        });
+    }
+
+    // 퇴장, 만료 정리처럼 버리면 안 되는 작업은 lane 이 가득 차면 호출한 스레드에서 바로 실행
+    public void executeOrRun(Long roomId, Runnable task) {
+        try {
+            execute(roomId, task);
+        } catch (RejectedExecutionException e) {
+            log.warn("[executeOrRun] 채팅방 lane 이 가득 차 호출 스레드에서 실행 roomId={}", roomId);
+            try {
+                task.run();
+            } catch (Exception taskException) {
+                log.error("[executeOrRun] 채팅방 작업 실패 roomId={}", roomId, taskException);
+            }
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(Long roomId, Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, laneOf(roomId));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 대기 중인 작업까지 처리한 후 종료
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("[shutdown] 채팅방 실행기 종료 대기 시간 초과, 남은 작업 수={}", lane.getQueue().size());
+            }
+        }
+    }
+
+    private ThreadPoolExecutor laneOf(Long roomId) {
+        return lanes[Math.floorMod(roomId.hashCode(), lanes.length)];
+    }
+}
@@ -0,0 +1,42 @@
+package com.familring.familyservice.config.mongo;
+
+import com.familring.familyservice.config.redis.RedisService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 접속 세션(CHAT_ROOM_PRESENCE_{roomId})으로 바뀌기 전 접속자 key(CHAT_ROOM_USER_COUNT_{roomId}) 정리
+// 더 이상 읽거나 쓰지 않아 만료되지 않고 남으므로 기동 시 한 번 삭제 (ReadWatermarkMigration 과 같은 설정으로 실행)
+// 남은 key 가 없으면 SCAN 만 하고 끝나므로 여러 인스턴스에서 다시 실행되어도 무방
+@Component
+@Log4j2
+public class LegacyPresenceCleanup {
+
+    private final RedisService redisService;
+    private final boolean enabled;
+
+    public LegacyPresenceCleanup(RedisService redisService,
+                                 @Value("${familring.chat.read-watermark.migration.enabled:true}") boolean enabled) {
+        this.redisService = redisService;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cleanup() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            long deleted = redisService.deleteLegacyChatRoomUserCounts();
+            if (deleted > 0) {
+                log.info("[cleanup] 기존 채팅방 접속자 key 삭제 keys={}", deleted);
+            }
+        } catch (Exception e) {
+            // 다음 기동 시 다시 실행
+            log.error("[cleanup] 기존 채팅방 접속자 key 삭제 실패", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.familring.familyservice.config.mongo;
+
+import com.familring.familyservice.model.dto.chat.Chat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+@Log4j2
+public class MongoConfig {
+
+    // @CompoundIndex 등 어노테이션으로 선언한 인덱스를 생성할 컬렉션
+    private static final List<Class<?>> INDEXED_DOCUMENTS = List.of(Chat.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        // auto-index-creation 설정과 무관하게 선언된 인덱스를 보장
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+
+        for (Class<?> document : INDEXED_DOCUMENTS) {
+            IndexOperations indexOps = mongoTemplate.indexOps(document);
+            resolver.resolveIndexFor(document).forEach(indexOps::ensureIndex);
+            log.info("[ensureIndexes] 인덱스 생성 완료 collection={}", mongoTemplate.getCollectionName(document));
+        }
+    }
+}
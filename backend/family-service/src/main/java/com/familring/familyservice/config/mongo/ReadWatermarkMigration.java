@@ -0,0 +1,89 @@
+package com.familring.familyservice.config.mongo;
+
+import com.familring.familyservice.config.redis.RedisService;
+import com.familring.familyservice.model.dto.chat.Chat;
+import lombok.extern.log4j.Log4j2;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// 기존 채팅별 읽은 사람 목록(readByUserIds)을 채팅방 회원별 읽음 위치(CHAT_ROOM_READ_WATERMARK_{roomId})로 옮김
+// 회원마다 읽은 채팅 중 가장 늦은 createdAt 을 읽음 위치로 반영한 후 readByUserIds 필드 제거
+// 읽음 위치는 더 최근 값만 반영되므로 여러 인스턴스에서 동시에 실행되거나 중간에 실패해 다시 실행되어도 무방
+@Component
+@Log4j2
+public class ReadWatermarkMigration {
+
+    private static final String LEGACY_READ_FIELD = "readByUserIds";
+
+    private final MongoTemplate mongoTemplate;
+    private final RedisService redisService;
+    private final boolean enabled;
+
+    public ReadWatermarkMigration(MongoTemplate mongoTemplate, RedisService redisService,
+                                  @Value("${familring.chat.read-watermark.migration.enabled:true}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.redisService = redisService;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+
+        Query legacyChats = Query.query(Criteria.where(LEGACY_READ_FIELD).exists(true));
+        if (!mongoTemplate.exists(legacyChats, Chat.class)) {
+            return;
+        }
+
+        // 1. 채팅방, 회원별 마지막으로 읽은 채팅 시간
+        Aggregation aggregation = Aggregation.newAggregation(
+                        Aggregation.match(Criteria.where(LEGACY_READ_FIELD + ".0").exists(true)),
+                        Aggregation.unwind(LEGACY_READ_FIELD),
+                        Aggregation.group("roomId", LEGACY_READ_FIELD).max("createdAt").as("lastReadAt"))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        Map<Long, Map<Long, Long>> readPositions = new HashMap<>();
+        try (Stream<Document> results = mongoTemplate.aggregateStream(aggregation, mongoTemplate.getCollectionName(Chat.class), Document.class)) {
+            results.forEach(result -> {
+                Document id = result.get("_id", Document.class);
+                Date lastReadAt = result.getDate("lastReadAt");
+                if (id == null || lastReadAt == null) {
+                    return;
+                }
+                long roomId = ((Number) id.get("roomId")).longValue();
+                long userId = ((Number) id.get(LEGACY_READ_FIELD)).longValue();
+                readPositions.computeIfAbsent(roomId, key -> new HashMap<>()).put(userId, lastReadAt.getTime());
+            });
+        }
+
+        // 2. 읽음 위치 반영 (채팅방마다 1회 왕복)
+        try {
+            readPositions.forEach(redisService::seedReadWatermarks);
+        } catch (Exception e) {
+            // 필드를 지우지 않았으므로 다음 기동 시 다시 실행
+            log.error("[migrate] 읽음 위치 반영 실패, 기존 읽음 정보 유지 rooms={}", readPositions.size(), e);
+            return;
+        }
+
+        // 3. 반영이 끝난 기존 필드 제거
+        long updated = mongoTemplate.updateMulti(legacyChats, new Update().unset(LEGACY_READ_FIELD), Chat.class).getModifiedCount();
+        log.info("[migrate] 기존 읽음 정보를 읽음 위치로 반영 rooms={}, members={}, chats={}",
+                readPositions.size(), readPositions.values().stream().mapToInt(Map::size).sum(), updated);
+    }
+}
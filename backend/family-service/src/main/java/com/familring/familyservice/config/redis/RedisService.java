@@ -1,4 +1,36 @@
 package com.familring.familyservice.config.redis;
 
+import com.familring.familyservice.model.dto.chat.ExpiredPresence;
+
+import java.util.List;
+import java.util.Map;
+
 public interface RedisService {
+    // 채팅방 입장 (접속 세션 추가 + 읽음 위치 갱신) - 1회 왕복, 입장 후 접속 세션 수 반환
+    // heartbeat 를 보내지 않는 세션은 DISCONNECT 전까지 접속 중으로 유지
+    Long enterChatRoom(Long roomId, Long userId, String sessionId, long readPosition, boolean heartbeat);
+
+    // 채팅방 퇴장 (접속 세션 제거 + 읽음 위치 갱신) - 1회 왕복, 퇴장 후 접속 세션 수 반환
+    Long exitChatRoom(Long roomId, Long userId, String sessionId, long readPosition);
+
+    // 접속 세션의 마지막 heartbeat 시간 갱신 - 접속 중인 세션이면 true
+    boolean touchPresence(Long roomId, Long userId, String sessionId, long now, boolean heartbeat);
+
+    // heartbeat 가 끊긴 세션 제거 - 세션을 제거한 채팅방별 퇴장 회원 반환
+    List<ExpiredPresence> sweepPresence(long now);
+
+    // 채팅방 회원별 읽음 위치 조회 (heartbeat 가 살아있는 회원은 Long.MAX_VALUE) - 1회 왕복
+    Map<Long, Long> findReadWatermarks(Long roomId);
+
+    // 채팅방 회원별 읽음 위치 반영 (기존 읽음 위치보다 최근일 때만) - 1회 왕복
+    void seedReadWatermarks(Long roomId, Map<Long, Long> readPositions);
+
+    // 더 이상 사용하지 않는 채팅방 접속자 key(CHAT_ROOM_USER_COUNT_{roomId}) 삭제 - 삭제한 key 수 반환
+    long deleteLegacyChatRoomUserCounts();
+
+    // 채팅방 순번 증가 후 반환 - 순번 key 가 없으면 null
+    Long incrementChatSeq(Long roomId);
+
+    // 채팅방 순번 초기화 (key 가 없을 때만)
+    void initChatSeq(Long roomId, long seq);
 }
@@ -1,12 +1,291 @@
 package com.familring.familyservice.config.redis;
 
+import com.familring.familyservice.model.dto.chat.ExpiredPresence;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 @Service
 @RequiredArgsConstructor
 @Log4j2
 public class RedisServiceImpl implements RedisService {
 
+    private static final String PRESENCE_KEY = "CHAT_ROOM_PRESENCE_";
+    private static final String PRESENCE_ROOMS_KEY = "CHAT_ROOM_PRESENCE_ROOMS";
+    private static final String READ_WATERMARK_KEY = "CHAT_ROOM_READ_WATERMARK_";
+    private static final String CHAT_SEQ_KEY = "CHAT_ROOM_SEQ_";
+    // 접속 세션(PRESENCE_KEY)으로 바뀌기 전 접속자 key
+    private static final String LEGACY_CHAT_ROOM_USER_KEY = "CHAT_ROOM_USER_COUNT_";
+    private static final int LEGACY_DELETE_BATCH_SIZE = 500;
+
+    // 읽음 위치는 앞으로만 이동 (늦게 실행된 퇴장, 만료 정리가 더 최근 읽음 위치를 덮어쓰지 않도록)
+    // KEYS[2] = 읽음 위치 Hash
+    private static final String SET_READ_WATERMARK =
+            "local function setReadWatermark(userId, position) " +
+            "  local current = tonumber(redis.call('HGET', KEYS[2], userId)) " +
+            "  if not current or current < tonumber(position) then redis.call('HSET', KEYS[2], userId, position) end " +
+            "end ";
+
+    // 접속 Sorted Set 의 가장 늦은 만료 시간 이후에 key 가 만료되도록 TTL 갱신 (ARGV 의 현재 시간, key TTL 기준)
+    private static final String EXPIRE_PRESENCE =
+            "local function expirePresence(now, ttl) " +
+            "  local last = redis.call('ZRANGE', KEYS[1], -1, -1, 'WITHSCORES') " +
+            "  if last[2] then redis.call('PEXPIRE', KEYS[1], math.max(tonumber(last[2]) - tonumber(now), 0) + tonumber(ttl)) end " +
+            "end ";
+
+    // 접속 정보: 채팅방별 Sorted Set (member = "userId:sessionId", score = 마지막 heartbeat 시간)
+    // heartbeat 를 보내지 않는 세션은 score 를 no-heartbeat-ttl-ms 이후로 두어 DISCONNECT 전까지 만료되지 않도록 함
+    // KEYS[1] = 접속 Sorted Set, KEYS[2] = 읽음 위치 Hash, KEYS[3] = 접속자가 있는 채팅방 Set
+    // ARGV[1] = member, ARGV[2] = userId, ARGV[3] = 읽음 위치(현재 시간), ARGV[4] = 만료 기준 시간, ARGV[5] = roomId, ARGV[6] = key TTL(ms), ARGV[7] = score
+    private static final RedisScript<Long> ENTER_CHAT_ROOM_SCRIPT = RedisScript.of(
+            SET_READ_WATERMARK + EXPIRE_PRESENCE +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[4]) " +
+            "redis.call('ZADD', KEYS[1], ARGV[7], ARGV[1]) " +
+            "expirePresence(ARGV[3], ARGV[6]) " +
+            "setReadWatermark(ARGV[2], ARGV[3]) " +
+            "redis.call('SADD', KEYS[3], ARGV[5]) " +
+            "return redis.call('ZCARD', KEYS[1])", Long.class);
+
+    // 마지막 세션이 나가면 Redis가 빈 Sorted Set을 자동으로 삭제
+    private static final RedisScript<Long> EXIT_CHAT_ROOM_SCRIPT = RedisScript.of(
+            SET_READ_WATERMARK +
+            "redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[4]) " +
+            "setReadWatermark(ARGV[2], ARGV[3]) " +
+            "local count = redis.call('ZCARD', KEYS[1]) " +
+            "if count == 0 then redis.call('SREM', KEYS[3], ARGV[5]) end " +
+            "return count", Long.class);
+
+    // 접속 중인 세션만 마지막 heartbeat 시간 갱신
+    // KEYS[1] = 접속 Sorted Set, ARGV[1] = member, ARGV[2] = score, ARGV[3] = key TTL(ms), ARGV[4] = 현재 시간
+    private static final RedisScript<Long> TOUCH_PRESENCE_SCRIPT = RedisScript.of(
+            EXPIRE_PRESENCE +
+            "if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then return 0 end " +
+            "redis.call('ZADD', KEYS[1], 'XX', ARGV[2], ARGV[1]) " +
+            "expirePresence(ARGV[4], ARGV[3]) " +
+            "return 1", Long.class);
+
+    // 만료된 세션 제거 - 마지막 heartbeat 시간까지 읽은 것으로 읽음 위치 갱신 (더 최근 읽음 위치는 유지)
+    // KEYS[1] = 접속 Sorted Set, KEYS[2] = 읽음 위치 Hash, KEYS[3] = 접속자가 있는 채팅방 Set, ARGV[1] = 만료 기준 시간, ARGV[2] = roomId
+    // 반환: { 남은 접속 세션 수, 퇴장 처리한 userId... }
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SWEEP_PRESENCE_SCRIPT = RedisScript.of(
+            SET_READ_WATERMARK +
+            "local stale = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'WITHSCORES') " +
+            "local expired = {} " +
+            "for i = 1, #stale, 2 do " +
+            "  local userId = string.match(stale[i], '^(%d+):') " +
+            "  if userId then " +
+            "    setReadWatermark(userId, stale[i + 1]) " +
+            "    table.insert(expired, userId) " +
+            "  end " +
+            "end " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) " +
+            "local remaining = redis.call('ZCARD', KEYS[1]) " +
+            "if remaining == 0 then redis.call('SREM', KEYS[3], ARGV[2]) end " +
+            "table.insert(expired, 1, tostring(remaining)) " +
+            "return expired", List.class);
+
+    // 기존 채팅별 읽음 정보에서 계산한 읽음 위치 반영 (더 최근 읽음 위치는 유지)
+    // KEYS[2] = 읽음 위치 Hash, ARGV = userId, 읽음 위치, userId, 읽음 위치, ...
+    private static final RedisScript<Long> SEED_READ_WATERMARKS_SCRIPT = RedisScript.of(
+            SET_READ_WATERMARK +
+            "for i = 1, #ARGV, 2 do setReadWatermark(ARGV[i], ARGV[i + 1]) end " +
+            "return #ARGV / 2", Long.class);
+
+    // key 가 없으면(유실 포함) 0부터 다시 시작하지 않도록 -1 반환 후 호출한 쪽에서 초기화
+    private static final RedisScript<Long> INCREMENT_CHAT_SEQ_SCRIPT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "return redis.call('INCR', KEYS[1])", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    // 명령별 Timer (호출마다 meter 조회를 하지 않도록)
+    private final Map<String, Timer> commandTimers = new ConcurrentHashMap<>();
+
+    // heartbeat 없이 이 시간이 지나면 퇴장한 것으로 처리
+    @Value("${familring.chat.presence.ttl-ms:30000}")
+    private long presenceTtlMs;
+
+    // heartbeat 를 보내지 않는 세션(STOMP heart-beat 0,0)은 DISCONNECT 로만 퇴장 처리
+    // 인스턴스가 DISCONNECT 없이 종료된 경우에만 이 시간이 지나 정리됨
+    @Value("${familring.chat.presence.no-heartbeat-ttl-ms:86400000}")
+    private long noHeartbeatTtlMs;
+
+    @Override
+    public Long enterChatRoom(Long roomId, Long userId, String sessionId, long readPosition, boolean heartbeat) {
+        return record("enterChatRoom", () -> redisTemplate.execute(ENTER_CHAT_ROOM_SCRIPT,
+                List.of(PRESENCE_KEY + roomId, READ_WATERMARK_KEY + roomId, PRESENCE_ROOMS_KEY),
+                presenceMember(userId, sessionId), String.valueOf(userId), String.valueOf(readPosition),
+                String.valueOf(readPosition - presenceTtlMs), String.valueOf(roomId), String.valueOf(presenceTtlMs * 2),
+                String.valueOf(presenceScore(readPosition, heartbeat))));
+    }
+
+    @Override
+    public Long exitChatRoom(Long roomId, Long userId, String sessionId, long readPosition) {
+        return record("exitChatRoom", () -> redisTemplate.execute(EXIT_CHAT_ROOM_SCRIPT,
+                List.of(PRESENCE_KEY + roomId, READ_WATERMARK_KEY + roomId, PRESENCE_ROOMS_KEY),
+                presenceMember(userId, sessionId), String.valueOf(userId), String.valueOf(readPosition),
+                String.valueOf(readPosition - presenceTtlMs), String.valueOf(roomId)));
+    }
+
+    @Override
+    public boolean touchPresence(Long roomId, Long userId, String sessionId, long now, boolean heartbeat) {
+        Long updated = record("touchPresence", () -> redisTemplate.execute(TOUCH_PRESENCE_SCRIPT,
+                List.of(PRESENCE_KEY + roomId),
+                presenceMember(userId, sessionId), String.valueOf(presenceScore(now, heartbeat)),
+                String.valueOf(presenceTtlMs * 2), String.valueOf(now)));
+        return updated != null && updated > 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ExpiredPresence> sweepPresence(long now) {
+        Set<String> roomIds = redisTemplate.opsForSet().members(PRESENCE_ROOMS_KEY);
+        if (roomIds == null) {
+            return List.of();
+        }
+
+        List<ExpiredPresence> expiredPresences = new ArrayList<>();
+        for (String roomId : roomIds) {
+            List<String> result = record("sweepPresence", () -> (List<String>) redisTemplate.execute(SWEEP_PRESENCE_SCRIPT,
+                    List.of(PRESENCE_KEY + roomId, READ_WATERMARK_KEY + roomId, PRESENCE_ROOMS_KEY),
+                    String.valueOf(now - presenceTtlMs), roomId));
+            if (result == null || result.size() < 2) {
+                continue;
+            }
+
+            // 같은 회원의 세션이 여러 개 만료된 경우 한 번만 퇴장 처리
+            Set<Long> userIds = new LinkedHashSet<>();
+            result.subList(1, result.size()).forEach(userId -> userIds.add(Long.valueOf(userId)));
+            expiredPresences.add(ExpiredPresence.builder()
+                    .roomId(Long.valueOf(roomId))
+                    .userIds(new ArrayList<>(userIds))
+                    .remainingCount(Long.parseLong(result.get(0)))
+                    .build());
+        }
+        return expiredPresences;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Long, Long> findReadWatermarks(Long roomId) {
+        // HGETALL + ZRANGEBYSCORE(만료되지 않은 세션) 를 파이프라인으로 한 번에 전송
+        long aliveAfter = System.currentTimeMillis() - presenceTtlMs;
+        List<Object> results = record("findReadWatermarks", () -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().entries(READ_WATERMARK_KEY + roomId);
+                ops.opsForZSet().rangeByScore(PRESENCE_KEY + roomId, aliveAfter, Double.POSITIVE_INFINITY);
+                return null;
+            }
+        }));
+
+        Map<Long, Long> readWatermarks = new HashMap<>();
+
+        // 1. 회원별 마지막 읽음 위치
+        Map<Object, Object> entries = (Map<Object, Object>) results.get(0);
+        entries.forEach((userId, position) ->
+                readWatermarks.put(Long.valueOf((String) userId), Long.valueOf((String) position)));
+
+        // 2. 채팅방에 접속 중인 회원은 모든 메시지를 읽은 것으로 처리
+        Set<Object> currentMembers = (Set<Object>) results.get(1);
+        currentMembers.forEach(member -> readWatermarks.put(parseUserId((String) member), Long.MAX_VALUE));
+
+        return readWatermarks;
+    }
+
+    @Override
+    public Long incrementChatSeq(Long roomId) {
+        Long seq = record("incrementChatSeq", () -> redisTemplate.execute(INCREMENT_CHAT_SEQ_SCRIPT,
+                List.of(CHAT_SEQ_KEY + roomId)));
+        return seq == null || seq < 0 ? null : seq;
+    }
+
+    @Override
+    public void initChatSeq(Long roomId, long seq) {
+        record("initChatSeq", () -> redisTemplate.opsForValue().setIfAbsent(CHAT_SEQ_KEY + roomId, String.valueOf(seq)));
+    }
+
+    @Override
+    public void seedReadWatermarks(Long roomId, Map<Long, Long> readPositions) {
+        if (readPositions.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(readPositions.size() * 2);
+        readPositions.forEach((userId, readPosition) -> {
+            args.add(String.valueOf(userId));
+            args.add(String.valueOf(readPosition));
+        });
+        record("seedReadWatermarks", () -> redisTemplate.execute(SEED_READ_WATERMARKS_SCRIPT,
+                List.of(PRESENCE_KEY + roomId, READ_WATERMARK_KEY + roomId), args.toArray()));
+    }
+
+    @Override
+    public long deleteLegacyChatRoomUserCounts() {
+        // KEYS 대신 SCAN 으로 나눠 조회하고 UNLINK 로 batch 단위 삭제 (Redis 를 오래 막지 않도록)
+        ScanOptions options = ScanOptions.scanOptions().match(LEGACY_CHAT_ROOM_USER_KEY + "*").count(1000).build();
+        long deleted = 0;
+        List<String> keys = new ArrayList<>(LEGACY_DELETE_BATCH_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == LEGACY_DELETE_BATCH_SIZE) {
+                    deleted += unlink(keys);
+                    keys = new ArrayList<>(LEGACY_DELETE_BATCH_SIZE);
+                }
+            }
+        }
+        if (!keys.isEmpty()) {
+            deleted += unlink(keys);
+        }
+        return deleted;
+    }
+
+    private long unlink(List<String> keys) {
+        Long deleted = redisTemplate.unlink(keys);
+        return deleted == null ? 0 : deleted;
+    }
+
+    // heartbeat 를 보내지 않는 세션은 no-heartbeat-ttl-ms 동안 만료되지 않는 시간으로 기록
+    private long presenceScore(long now, boolean heartbeat) {
+        return heartbeat ? now : now + noHeartbeatTtlMs;
+    }
+
+    private String presenceMember(Long userId, String sessionId) {
+        return userId + ":" + sessionId;
+    }
+
+    private Long parseUserId(String presenceMember) {
+        return Long.valueOf(presenceMember.substring(0, presenceMember.indexOf(':')));
+    }
+
+    // 명령 단위 왕복 횟수와 지연 시간 기록 (familring.redis.command{command=...})
+    private <T> T record(String command, Supplier<T> supplier) {
+        return commandTimers.computeIfAbsent(command, key -> Timer.builder("familring.redis.command")
+                        .tag("command", key)
+                        .register(meterRegistry))
+                .record(supplier);
+    }
 }
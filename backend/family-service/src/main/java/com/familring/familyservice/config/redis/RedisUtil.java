@@ -73,4 +73,3 @@ public class RedisUtil {
         return redisTemplate.opsForSet().members(key);
     }
 }
-
@@ -0,0 +1,29 @@
+package com.familring.familyservice.config.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+// 요청별 비동기 응답 제한 시간 적용
+// 전체 기본값은 그대로 두고, 핸들러가 setTimeout 으로 지정한 요청만 제한 시간을 바꿈
+public class AsyncTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    private static final String TIMEOUT_ATTRIBUTE = AsyncTimeoutInterceptor.class.getName() + ".timeout";
+
+    public static void setTimeout(HttpServletRequest request, long timeoutMs) {
+        request.setAttribute(TIMEOUT_ATTRIBUTE, timeoutMs);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        // 비동기 처리를 시작하기 전에 지정해야 AsyncContext 에 반영됨
+        Object timeoutMs = request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (timeoutMs instanceof Long timeout && request instanceof AsyncWebRequest asyncWebRequest) {
+            asyncWebRequest.setTimeout(timeout);
+        }
+    }
+}
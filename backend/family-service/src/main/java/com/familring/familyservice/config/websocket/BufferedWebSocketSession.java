@@ -0,0 +1,198 @@
+package com.familring.familyservice.config.websocket;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+
+// 세션별 전송 버퍼
+// 브로커 스레드는 큐에 넣고 바로 반환하고, 전송 스레드가 순서대로 실제 세션에 전송
+// 버퍼 예산을 넘으면 읽음 상태 프레임은 오래된 것부터 버리고, 채팅 프레임은 세션 종료
+// 한 프레임 전송이 제한 시간을 넘기면 다음 프레임이 오지 않아도 watchdog(SlowConsumerPolicy) 이 세션을 종료해 전송 스레드를 풀어줌
+@Log4j2
+class BufferedWebSocketSession extends WebSocketSessionDecorator {
+
+    private final SlowConsumerPolicy policy;
+    private final Executor sendExecutor;
+    private final String endpoint;
+
+    private final Deque<QueuedFrame> queue = new ArrayDeque<>();
+    private long queuedBytes;
+    private boolean sending;
+    private long sendStartedAt;
+    private boolean closed;
+
+    BufferedWebSocketSession(WebSocketSession delegate, SlowConsumerPolicy policy, Executor sendExecutor) {
+        super(delegate);
+        this.policy = policy;
+        this.sendExecutor = sendExecutor;
+
+        Object endpoint = delegate.getAttributes().get(NativeWebSocketHandshakeHandler.ENDPOINT_ATTRIBUTE);
+        this.endpoint = endpoint == null ? NativeWebSocketHandshakeHandler.SOCKJS_ENDPOINT : endpoint.toString();
+        policy.recordConnected(this.endpoint, NativeWebSocketHandshakeHandler.isDeflateNegotiated(delegate.getExtensions()));
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        QueuedFrame frame = new QueuedFrame(message, message.getPayloadLength(), isReadStatusFrame(message));
+        String closeReason = null;
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            // 1. 현재 전송이 제한 시간을 넘긴 느린 세션
+            if (sending && System.currentTimeMillis() - sendStartedAt > policy.getSendTimeLimitMs()) {
+                closeReason = "timeout";
+            }
+            // 2. 버퍼 예산 초과
+            else if (queuedBytes + frame.size > policy.getSendBufferSizeLimit()) {
+                if (frame.readStatus) {
+                    // 읽음 상태는 최신 것만 의미 있으므로 오래된 읽음 상태 프레임부터 제거
+                    dropOldestReadStatus(frame.size);
+                    if (queuedBytes + frame.size > policy.getSendBufferSizeLimit()) {
+                        policy.recordDropped();
+                        return;
+                    }
+                } else {
+                    closeReason = "buffer";
+                }
+            }
+
+            if (closeReason == null) {
+                queue.addLast(frame);
+                queuedBytes += frame.size;
+                policy.recordQueued(frame.size, queuedBytes);
+
+                if (!sending) {
+                    sending = true;
+                    sendExecutor.execute(this::drain);
+                }
+                return;
+            }
+        }
+
+        forceClose(closeReason);
+    }
+
+    // 현재 전송이 제한 시간을 넘겼으면 세션 종료 (실제 세션이 닫히면 막혀 있던 전송도 예외로 끝남)
+    void checkSendTimeout(long now) {
+        synchronized (this) {
+            if (closed || !sending || now - sendStartedAt <= policy.getSendTimeLimitMs()) {
+                return;
+            }
+        }
+        forceClose("timeout");
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        clear();
+        super.close(status);
+    }
+
+    void clear() {
+        synchronized (this) {
+            closed = true;
+            policy.recordRemoved(queuedBytes);
+            queue.clear();
+            queuedBytes = 0;
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            QueuedFrame frame;
+            synchronized (this) {
+                frame = queue.pollFirst();
+                if (frame == null || closed) {
+                    sending = false;
+                    return;
+                }
+                sendStartedAt = System.currentTimeMillis();
+            }
+
+            try {
+                long startedAt = System.nanoTime();
+                getDelegate().sendMessage(frame.message);
+                policy.recordSent(endpoint, frame.size, System.nanoTime() - startedAt);
+            } catch (Exception e) {
+                log.warn("[drain] 웹소켓 전송 실패 sessionId={}", getId(), e);
+                forceClose("error");
+                return;
+            } finally {
+                synchronized (this) {
+                    if (!closed) {
+                        queuedBytes -= frame.size;
+                        policy.recordRemoved(frame.size);
+                    }
+                }
+            }
+        }
+    }
+
+    private void dropOldestReadStatus(long required) {
+        Iterator<QueuedFrame> iterator = queue.iterator();
+        while (iterator.hasNext() && queuedBytes + required > policy.getSendBufferSizeLimit()) {
+            QueuedFrame queued = iterator.next();
+            if (queued.readStatus) {
+                iterator.remove();
+                queuedBytes -= queued.size;
+                policy.recordRemoved(queued.size);
+                policy.recordDropped();
+            }
+        }
+    }
+
+    private void forceClose(String reason) {
+        log.warn("[forceClose] 느린 세션 강제 종료 sessionId={}, reason={}, queuedBytes={}", getId(), reason, queuedBytes);
+        policy.recordForcedDisconnect(reason);
+        clear();
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.warn("[forceClose] 세션 종료 실패 sessionId={}", getId(), e);
+        }
+    }
+
+    // STOMP MESSAGE 프레임의 destination 헤더로 읽음 상태 프레임 구분
+    private boolean isReadStatusFrame(WebSocketMessage<?> message) {
+        // JSON, 문자열 payload 는 TextMessage 로 전송됨
+        if (!(message instanceof TextMessage textMessage)) {
+            return false;
+        }
+
+        String payload = textMessage.getPayload();
+
+        int headerEnd = payload.indexOf("\n\n");
+        String headers = headerEnd < 0 ? payload : payload.substring(0, headerEnd);
+        int start = headers.indexOf("\ndestination:");
+        if (start < 0) {
+            return false;
+        }
+        int end = headers.indexOf('\n', start + 1);
+        String destination = headers.substring(start + "\ndestination:".length(), end < 0 ? headers.length() : end);
+        return destination.endsWith("/readStatus");
+    }
+
+    private static class QueuedFrame {
+        private final WebSocketMessage<?> message;
+        private final long size;
+        private final boolean readStatus;
+
+        private QueuedFrame(WebSocketMessage<?> message, long size, boolean readStatus) {
+            this.message = message;
+            this.size = size;
+            this.readStatus = readStatus;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.familring.familyservice.config.websocket;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeFailureException;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.util.List;
+import java.util.Map;
+
+// SockJS 없이 바로 연결하는 웹소켓 엔드포인트의 handshake 처리
+// 클라이언트가 요청한 permessage-deflate 를 설정에 따라 수락하고, 세션에 엔드포인트 종류를 남겨 엔드포인트별 지표를 구분
+@Log4j2
+public class NativeWebSocketHandshakeHandler extends DefaultHandshakeHandler {
+
+    public static final String ENDPOINT_ATTRIBUTE = "websocketEndpoint";
+    public static final String NATIVE_ENDPOINT = "native";
+    public static final String SOCKJS_ENDPOINT = "sockjs";
+
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final boolean compressionEnabled;
+
+    public NativeWebSocketHandshakeHandler(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    @Override
+    public boolean doHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Map<String, Object> attributes) throws HandshakeFailureException {
+        attributes.put(ENDPOINT_ATTRIBUTE, NATIVE_ENDPOINT);
+        return super.doHandshake(request, response, wsHandler, attributes);
+    }
+
+    @Override
+    protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request,
+                                                                 List<WebSocketExtension> requestedExtensions,
+                                                                 List<WebSocketExtension> supportedExtensions) {
+        List<WebSocketExtension> extensions = super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions);
+        if (compressionEnabled) {
+            return extensions;
+        }
+
+        // 압축을 끈 경우 permessage-deflate 를 제외하고 수락
+        return extensions.stream()
+                .filter(extension -> !PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()))
+                .toList();
+    }
+
+    public static boolean isDeflateNegotiated(List<WebSocketExtension> extensions) {
+        return extensions.stream().anyMatch(extension -> PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()));
+    }
+}
@@ -0,0 +1,261 @@
+package com.familring.familyservice.config.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 채팅방(/room/{roomId}/**) 프레임 전송
+// relay 모드: Redis pub/sub 채널(CHAT_ROOM_RELAY_{roomId})로 발행하고, 각 인스턴스가 수신해 로컬 구독자에게 전달
+// 기본 모드: simple broker 로 바로 전달
+// 두 모드 모두 payload 는 여기서 한 번만 JSON 으로 직렬화해 byte[] 로 전달
+@Component
+@Log4j2
+public class RoomBroadcaster implements MessageListener {
+
+    private static final String RELAY_CHANNEL = "CHAT_ROOM_RELAY_";
+    private static final String TEXT_PLAIN_UTF8 = "text/plain;charset=UTF-8";
+
+    private final SimpMessagingTemplate template;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final RoomFrameBatcher roomFrameBatcher;
+    private final boolean relayEnabled;
+
+    // 이 인스턴스의 구독 정보 ("sessionId:subscriptionId" -> roomId)
+    private final Map<String, Long> subscriptions = new ConcurrentHashMap<>();
+    // 채팅방별 이 인스턴스의 구독 key
+    private final Map<Long, Set<String>> roomSubscriptions = new ConcurrentHashMap<>();
+
+    // 프레임 종류별 meter (전송마다 builder 로 찾지 않도록)
+    private final Map<String, Timer> serializeTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> frameSizes = new ConcurrentHashMap<>();
+
+    public RoomBroadcaster(SimpMessagingTemplate template, RedisTemplate<String, String> redisTemplate,
+                           RedisMessageListenerContainer listenerContainer, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                           RoomFrameBatcher roomFrameBatcher,
+                           @Value("${familring.chat.broker.relay.enabled:false}") boolean relayEnabled) {
+        this.template = template;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.roomFrameBatcher = roomFrameBatcher;
+        this.relayEnabled = relayEnabled;
+    }
+
+    public void broadcast(Long roomId, String destination, Object payload) {
+        RoomRelayFrame frame;
+        try {
+            frame = toFrame(roomId, destination, payload);
+        } catch (JsonProcessingException e) {
+            log.error("[broadcast] 채팅방 프레임 변환 실패 roomId={}, destination={}", roomId, destination, e);
+            return;
+        }
+
+        if (!relayEnabled) {
+            deliver(roomId, frame);
+            return;
+        }
+
+        try {
+            // 발행한 인스턴스도 구독 중이면 Redis 를 통해 받아서 전달
+            redisTemplate.convertAndSend(RELAY_CHANNEL + roomId, objectMapper.writeValueAsString(frame));
+        } catch (JsonProcessingException e) {
+            log.error("[broadcast] 채팅방 프레임 변환 실패 roomId={}, destination={}", roomId, destination, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            RoomRelayFrame frame = objectMapper.readValue(message.getBody(), RoomRelayFrame.class);
+            deliver(parseRoomId(frame.getDestination()), frame);
+        } catch (Exception e) {
+            log.error("[onMessage] 채팅방 프레임 전달 실패", e);
+        }
+    }
+
+    // payload 는 한 번만 직렬화하고, 프레임 종류별 직렬화 시간과 크기 기록
+    private RoomRelayFrame toFrame(Long roomId, String destination, Object payload) throws JsonProcessingException {
+        if (payload instanceof String text) {
+            recordFrameSize(roomId, destination, text);
+            return new RoomRelayFrame(destination, TEXT_PLAIN_UTF8, text);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String body = objectMapper.writeValueAsString(payload);
+        sample.stop(serializeTimers.computeIfAbsent(frameType(roomId, destination),
+                frame -> meterRegistry.timer("familring.chat.frame.serialize", "frame", frame)));
+
+        recordFrameSize(roomId, destination, body);
+        return new RoomRelayFrame(destination, MimeTypeUtils.APPLICATION_JSON_VALUE, body);
+    }
+
+    // 개별 경로 구독자에게 바로 전달하고, 묶음 경로 구독자용으로 모으기
+    private void deliver(Long roomId, RoomRelayFrame frame) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeType.valueOf(frame.getContentType()));
+        accessor.setLeaveMutable(true);
+
+        template.send(frame.getDestination(),
+                MessageBuilder.createMessage(frame.getBody().getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+
+        if (roomId != null) {
+            roomFrameBatcher.add(roomId, frame.getDestination(), frame.getContentType(), frame.getBody());
+        }
+    }
+
+    private void recordFrameSize(Long roomId, String destination, String body) {
+        frameSizes.computeIfAbsent(frameType(roomId, destination), frame -> DistributionSummary.builder("familring.chat.frame.size")
+                        .baseUnit("bytes")
+                        .tag("frame", frame)
+                        .register(meterRegistry))
+                .record(utf8Length(body));
+    }
+
+    // 전송할 때 한 번 더 인코딩하지 않도록 byte 배열을 만들지 않고 UTF-8 길이만 계산
+    private static long utf8Length(String text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    // /room/{roomId} 이후 경로로 프레임 종류 구분 (chat, v2, readStatus, v2/readStatus, error)
+    private String frameType(Long roomId, String destination) {
+        String suffix = destination.substring(Math.min(("/room/" + roomId).length(), destination.length()));
+        return suffix.isEmpty() ? "chat" : suffix.substring(1);
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        if (!relayEnabled) {
+            return;
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = parseRoomId(accessor.getDestination());
+        if (roomId == null) {
+            return;
+        }
+
+        String subscriptionKey = accessor.getSessionId() + ":" + accessor.getSubscriptionId();
+        subscriptions.put(subscriptionKey, roomId);
+
+        roomSubscriptions.compute(roomId, (id, keys) -> {
+            if (keys == null) {
+                // 이 인스턴스에 처음 구독한 채팅방이면 Redis 채널 구독
+                keys = ConcurrentHashMap.newKeySet();
+                listenerContainer.addMessageListener(this, new ChannelTopic(RELAY_CHANNEL + id));
+                log.info("[handleSubscribe] 채팅방 relay 채널 구독 roomId={}", id);
+            }
+            keys.add(subscriptionKey);
+            return keys;
+        });
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        if (!relayEnabled) {
+            return;
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        removeSubscription(accessor.getSessionId() + ":" + accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        if (!relayEnabled) {
+            return;
+        }
+
+        String prefix = event.getSessionId() + ":";
+        subscriptions.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .toList()
+                .forEach(this::removeSubscription);
+    }
+
+    private void removeSubscription(String subscriptionKey) {
+        Long roomId = subscriptions.remove(subscriptionKey);
+        if (roomId == null) {
+            return;
+        }
+
+        roomSubscriptions.computeIfPresent(roomId, (id, keys) -> {
+            keys.remove(subscriptionKey);
+            if (!keys.isEmpty()) {
+                return keys;
+            }
+
+            // 이 인스턴스에 남은 구독자가 없으면 Redis 채널 구독 해제
+            listenerContainer.removeMessageListener(this, new ChannelTopic(RELAY_CHANNEL + id));
+            log.info("[removeSubscription] 채팅방 relay 채널 구독 해제 roomId={}", id);
+            return null;
+        });
+    }
+
+    private Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith("/room/")) {
+            return null;
+        }
+
+        String[] pathSegments = destination.split("/");
+        try {
+            return Long.valueOf(pathSegments[2]);
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RoomRelayFrame {
+        private String destination;
+        private String contentType;
+        private String body;
+    }
+}
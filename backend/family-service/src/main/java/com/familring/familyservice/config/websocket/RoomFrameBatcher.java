@@ -0,0 +1,293 @@
+package com.familring.familyservice.config.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 채팅방 프레임 묶음 전송
+// 배열 payload 를 처리할 수 있는 클라이언트는 /room/{roomId}/batch (v1), /room/{roomId}/v2/batch (v2) 를 구독
+// 묶음 전송이 켜진 채팅방은 window-ms 동안 모인 프레임을 [{destination, body}, ...] 한 프레임으로 전송하고
+// 꺼진 채팅방은 프레임마다 원소 1개짜리 배열로 바로 전송 (클라이언트는 항상 배열만 처리하면 됨)
+// 개별 경로(/room/{roomId}, /readStatus ...) 구독자는 기존과 같이 프레임마다 받음
+@Component
+@Log4j2
+public class RoomFrameBatcher {
+
+    public static final String BATCH_SUFFIX = "/batch";
+
+    private final SimpMessagingTemplate template;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Set<Long> batchRooms;
+    private final long windowMs;
+    private final int maxFrames;
+
+    private final Counter batchCounter;
+    private final DistributionSummary batchFrames;
+
+    private final ScheduledExecutorService flushScheduler;
+
+    // 채팅방별 모으는 중인 프레임
+    private final Map<Long, PendingFrames> pending = new ConcurrentHashMap<>();
+    // 묶음 경로 구독 정보 ("sessionId:subscriptionId" -> 묶음 경로), 경로별 구독 수
+    private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> subscriberCounts = new ConcurrentHashMap<>();
+
+    public RoomFrameBatcher(SimpMessagingTemplate template, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                            @Value("${familring.chat.batch.enabled:false}") boolean enabled,
+                            @Value("${familring.chat.batch.rooms:}") Set<Long> batchRooms,
+                            @Value("${familring.chat.batch.window-ms:5}") long windowMs,
+                            @Value("${familring.chat.batch.max-frames:32}") int maxFrames) {
+        this.template = template;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.batchRooms = batchRooms;
+        this.windowMs = windowMs;
+        this.maxFrames = maxFrames;
+
+        this.batchCounter = Counter.builder("familring.chat.batch.sent").register(meterRegistry);
+        this.batchFrames = DistributionSummary.builder("familring.chat.batch.frames").register(meterRegistry);
+
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-frame-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("[RoomFrameBatcher] 묶음 전송 enabled={}, rooms={}, windowMs={}, maxFrames={}",
+                enabled, batchRooms.isEmpty() ? "all" : batchRooms, windowMs, maxFrames);
+    }
+
+    // 채팅방 프레임 모으기 (같은 채팅방 프레임은 호출 순서대로 전달)
+    public void add(Long roomId, String destination, String contentType, String body) {
+        if (!hasBatchSubscribers(roomId)) {
+            return;
+        }
+
+        Frame frame = new Frame(destination, contentType, body);
+        if (!isBatched(roomId)) {
+            send(roomId, List.of(frame));
+            return;
+        }
+
+        while (true) {
+            PendingFrames frames = pending.computeIfAbsent(roomId, id -> new PendingFrames());
+            synchronized (frames) {
+                if (frames.removed) {
+                    // 전송 후 제거된 항목이면 새로 만들어 다시 모으기
+                    continue;
+                }
+                frames.frames.add(frame);
+                if (frames.frames.size() >= maxFrames) {
+                    flush(roomId, frames);
+                } else if (frames.frames.size() == 1) {
+                    // 첫 프레임 기준으로 window-ms 후 전송
+                    flushScheduler.schedule(() -> flush(roomId, frames), windowMs, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+    }
+
+    // 클라이언트에 알려주는 채팅방 묶음 전송 여부
+    public boolean isBatched(Long roomId) {
+        return enabled && (batchRooms.isEmpty() || batchRooms.contains(roomId));
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 모으는 중인 프레임 전송 후 종료
+        pending.forEach(this::flush);
+        flushScheduler.shutdown();
+    }
+
+    private void flush(Long roomId, PendingFrames frames) {
+        synchronized (frames) {
+            // 전송 후 비는 항목은 제거해 대화가 끝난 채팅방 항목이 남지 않도록 함
+            frames.removed = true;
+            pending.remove(roomId, frames);
+            if (frames.frames.isEmpty()) {
+                return;
+            }
+            List<Frame> batch = frames.frames;
+            frames.frames = new ArrayList<>();
+            try {
+                send(roomId, batch);
+            } catch (Exception e) {
+                log.error("[flush] 채팅방 묶음 전송 실패 roomId={}, frames={}", roomId, batch.size(), e);
+            }
+        }
+    }
+
+    private void send(Long roomId, List<Frame> frames) {
+        String room = "/room/" + roomId;
+        String v1Destination = room + BATCH_SUFFIX;
+        String v2Destination = room + "/v2" + BATCH_SUFFIX;
+
+        List<Frame> v1Frames = new ArrayList<>(frames.size());
+        List<Frame> v2Frames = new ArrayList<>(frames.size());
+        for (Frame frame : frames) {
+            // 에러는 버전과 관계없이 양쪽에 전송
+            boolean error = frame.destination.equals(room + "/error");
+            boolean lean = frame.destination.startsWith(room + "/v2");
+            if (error || !lean) {
+                v1Frames.add(frame);
+            }
+            if (error || lean) {
+                v2Frames.add(frame);
+            }
+        }
+
+        sendBatch(v1Destination, v1Frames);
+        sendBatch(v2Destination, v2Frames);
+    }
+
+    private void sendBatch(String destination, List<Frame> frames) {
+        if (frames.isEmpty() || subscriberCount(destination) == 0) {
+            return;
+        }
+
+        // 각 프레임 body 는 이미 직렬화된 JSON 이므로 다시 직렬화하지 않고 이어 붙임
+        StringBuilder body = new StringBuilder(frames.stream().mapToInt(frame -> frame.body.length() + 64).sum());
+        body.append('[');
+        for (int i = 0; i < frames.size(); i++) {
+            Frame frame = frames.get(i);
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"destination\":").append(quote(frame.destination)).append(",\"body\":");
+            body.append(MimeTypeUtils.APPLICATION_JSON_VALUE.equals(frame.contentType) ? frame.body : quote(frame.body));
+            body.append('}');
+        }
+        body.append(']');
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        template.send(destination,
+                MessageBuilder.createMessage(body.toString().getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+
+        batchCounter.increment();
+        batchFrames.record(frames.size());
+    }
+
+    private String quote(String text) {
+        try {
+            return objectMapper.writeValueAsString(text);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean hasBatchSubscribers(Long roomId) {
+        String room = "/room/" + roomId;
+        return subscriberCount(room + BATCH_SUFFIX) > 0 || subscriberCount(room + "/v2" + BATCH_SUFFIX) > 0;
+    }
+
+    private int subscriberCount(String destination) {
+        AtomicInteger count = subscriberCounts.get(destination);
+        return count == null ? 0 : count.get();
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith("/room/") || !destination.endsWith(BATCH_SUFFIX)) {
+            return;
+        }
+
+        if (subscriptions.putIfAbsent(accessor.getSessionId() + ":" + accessor.getSubscriptionId(), destination) == null) {
+            subscriberCounts.computeIfAbsent(destination, key -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        removeSubscription(accessor.getSessionId() + ":" + accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        String prefix = event.getSessionId() + ":";
+        subscriptions.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .toList()
+                .forEach(this::removeSubscription);
+    }
+
+    private void removeSubscription(String subscriptionKey) {
+        String destination = subscriptions.remove(subscriptionKey);
+        if (destination == null) {
+            return;
+        }
+
+        subscriberCounts.computeIfPresent(destination, (key, count) -> count.decrementAndGet() <= 0 ? null : count);
+
+        // 마지막 묶음 구독이 해지되면 모으던 프레임은 받을 구독자가 없으므로 제거
+        Long roomId = roomIdOf(destination);
+        if (roomId != null && !hasBatchSubscribers(roomId)) {
+            PendingFrames frames = pending.remove(roomId);
+            if (frames != null) {
+                synchronized (frames) {
+                    frames.removed = true;
+                    frames.frames.clear();
+                }
+            }
+        }
+    }
+
+    // "/room/{roomId}/batch", "/room/{roomId}/v2/batch" 에서 roomId 추출
+    private Long roomIdOf(String destination) {
+        int start = "/room/".length();
+        int end = destination.indexOf('/', start);
+        try {
+            return Long.valueOf(end < 0 ? destination.substring(start) : destination.substring(start, end));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class PendingFrames {
+        private List<Frame> frames = new ArrayList<>();
+        private boolean removed;
+    }
+
+    @AllArgsConstructor
+    private static class Frame {
+        private final String destination;
+        private final String contentType;
+        private final String body;
+    }
+}
@@ -0,0 +1,147 @@
+package com.familring.familyservice.config.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 느린 클라이언트 처리 정책
+// 세션마다 send-buffer-size-limit 만큼의 전송 버퍼를 두고, 전송은 별도 스레드에서 처리해 브로커와 채팅방 lane 이 막히지 않도록 함
+// 버퍼가 가득 차면 읽음 상태 프레임은 오래된 것부터 버리고(drop-oldest), 채팅 프레임은 세션을 종료(disconnect)
+// 한 프레임 전송이 send-time-limit-ms 를 넘긴 세션도 종료 (watchdog-interval-ms 마다 확인)
+@Component
+@Getter
+@Log4j2
+public class SlowConsumerPolicy implements WebSocketHandlerDecoratorFactory {
+
+    private final long sendTimeLimitMs;
+    private final int sendBufferSizeLimit;
+    private final int messageSizeLimit;
+
+    private final ExecutorService sendExecutor;
+    private final Map<String, BufferedWebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong totalQueuedBytes = new AtomicLong();
+
+    // 엔드포인트별 meter (프레임마다 builder 로 찾지 않도록)
+    private final Map<String, DistributionSummary> frameBytes = new ConcurrentHashMap<>();
+    private final Map<String, Timer> sendTimers = new ConcurrentHashMap<>();
+
+    private final DistributionSummary sessionQueuedBytes;
+    private final Counter droppedCounter;
+    private final MeterRegistry meterRegistry;
+
+    public SlowConsumerPolicy(MeterRegistry meterRegistry,
+                              @Value("${familring.websocket.send-time-limit-ms:10000}") long sendTimeLimitMs,
+                              @Value("${familring.websocket.send-buffer-size-limit:524288}") int sendBufferSizeLimit,
+                              @Value("${familring.websocket.message-size-limit:65536}") int messageSizeLimit,
+                              @Value("${familring.websocket.send-threads:8}") int sendThreads) {
+        this.meterRegistry = meterRegistry;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.messageSizeLimit = messageSizeLimit;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sendExecutor = new ThreadPoolExecutor(sendThreads, sendThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "websocket-send-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // 전체 세션의 전송 대기 byte 와 세션별 전송 대기 byte 분포
+        Gauge.builder("familring.websocket.queued", totalQueuedBytes, AtomicLong::get).baseUnit("bytes").register(meterRegistry);
+        this.sessionQueuedBytes = DistributionSummary.builder("familring.websocket.session.queued")
+                .baseUnit("bytes")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("familring.websocket.dropped").tag("frame", "readStatus").register(meterRegistry);
+
+        log.info("[SlowConsumerPolicy] sendTimeLimitMs={}, sendBufferSizeLimit={}, sendThreads={}", sendTimeLimitMs, sendBufferSizeLimit, sendThreads);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                BufferedWebSocketSession bufferedSession = new BufferedWebSocketSession(session, SlowConsumerPolicy.this, sendExecutor);
+                sessions.put(session.getId(), bufferedSession);
+                super.afterConnectionEstablished(bufferedSession);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                BufferedWebSocketSession bufferedSession = sessions.remove(session.getId());
+                if (bufferedSession != null) {
+                    bufferedSession.clear();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    void recordQueued(long frameBytes, long sessionBytes) {
+        totalQueuedBytes.addAndGet(frameBytes);
+        sessionQueuedBytes.record(sessionBytes);
+    }
+
+    void recordRemoved(long bytes) {
+        totalQueuedBytes.addAndGet(-bytes);
+    }
+
+    void recordDropped() {
+        droppedCounter.increment();
+    }
+
+    // 엔드포인트(native, sockjs)별 연결 수와 permessage-deflate 사용 여부
+    void recordConnected(String endpoint, boolean deflate) {
+        meterRegistry.counter("familring.websocket.connections", "endpoint", endpoint, "deflate", String.valueOf(deflate)).increment();
+    }
+
+    // 엔드포인트별 프레임 크기(압축 전 STOMP 프레임)와 전송 시간(압축 포함)
+    void recordSent(String endpoint, long bytes, long elapsedNanos) {
+        frameBytes.computeIfAbsent(endpoint, tag -> DistributionSummary.builder("familring.websocket.frame.bytes")
+                        .baseUnit("bytes")
+                        .tag("endpoint", tag)
+                        .register(meterRegistry))
+                .record(bytes);
+        sendTimers.computeIfAbsent(endpoint, tag -> meterRegistry.timer("familring.websocket.frame.send", "endpoint", tag))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordForcedDisconnect(String reason) {
+        meterRegistry.counter("familring.websocket.forced.disconnect", "reason", reason).increment();
+    }
+
+    @Scheduled(fixedDelayString = "${familring.websocket.watchdog-interval-ms:1000}")
+    public void checkSendTimeouts() {
+        long now = System.currentTimeMillis();
+        sessions.values().forEach(session -> session.checkSendTimeout(now));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdown();
+    }
+}
@@ -1,42 +1,52 @@
 package com.familring.familyservice.config.websocket;
 
-import com.familring.familyservice.config.redis.RedisUtil;
-import com.familring.familyservice.model.dto.chat.Chat;
-import com.familring.familyservice.model.dto.response.UserInfoResponse;
-import com.familring.familyservice.model.repository.ChatRepository;
+import com.familring.familyservice.config.executor.ChatRoomExecutor;
+import com.familring.familyservice.config.redis.RedisService;
 import com.familring.familyservice.service.chat.ChatRoomService;
-import com.familring.familyservice.service.client.UserServiceFeignClient;
+import com.familring.familyservice.service.chat.RoomRosterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 @Configuration
 @RequiredArgsConstructor
 @Log4j2
 public class StompHandler implements ChannelInterceptor {
 
-    private final UserServiceFeignClient userServiceFeignClient;
-    private final RedisUtil redisUtil;
-    private final ChatRepository chatRepository;
+    private final RedisService redisService;
     private final ChatRoomService chatRoomService;
-    private final MongoTemplate mongoTemplate;
+    private final RoomRosterService roomRosterService;
+    private final ChatRoomExecutor chatRoomExecutor;
+
+    // heartbeat 마다 Redis 를 호출하지 않도록 세션별 접속 정보 갱신 최소 간격
+    @Value("${familring.chat.presence.touch-interval-ms:5000}")
+    private long presenceTouchIntervalMs;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
         StompCommand command = accessor.getCommand();
 
+        // heartbeat 프레임은 command 가 없음
+        if (command == null) {
+            if (SimpMessageType.HEARTBEAT.equals(accessor.getMessageType())) {
+                touchPresence(accessor);
+            }
+            return message;
+        }
+
         handleMessage(command, accessor, message.getHeaders());
 
         return message;
@@ -56,6 +66,11 @@ public class StompHandler implements ChannelInterceptor {
 
                 Long userId = Long.valueOf(userIdHeader);
                 accessor.getSessionAttributes().put("userId", userId); // 세션에 저장
+
+                // heart-beat 헤더의 첫 값이 0이면 클라이언트가 heartbeat 를 보내지 않음 (Krossbow 기본값 0,0)
+                // 이 경우 heartbeat 만료로 퇴장 처리하지 않고 DISCONNECT 까지 접속 중으로 유지
+                long[] heartbeat = accessor.getHeartbeat();
+                accessor.getSessionAttributes().put("presenceHeartbeat", heartbeat != null && heartbeat[0] > 0);
                 break;
 
             case SUBSCRIBE:
@@ -64,8 +79,9 @@ public class StompHandler implements ChannelInterceptor {
                 userId = (Long) accessor.getSessionAttributes().get("userId");
                 Long connectRoomId = getChatRoomNo(headers);
 
-                if (destination.equals("/room/" + connectRoomId)) {
-                    Long roomId = connectToChatRoom(headers, userId);
+                // v1(/room/{roomId}), v2(/room/{roomId}/v2) 채팅 구독 또는 묶음 경로(.../batch) 구독 시 입장 처리
+                if (isChatDestination(destination, "/room/" + connectRoomId)) {
+                    Long roomId = connectToChatRoom(headers, userId, accessor.getSessionId(), hasHeartbeat(accessor.getSessionAttributes()));
                     accessor.getSessionAttributes().put("roomId", roomId); // roomId를 세션에 저장
                     log.info("[handleMessage] 구독한 채팅 방 = {}", roomId);
                     log.info("[handleMessage] SUBSCRIBE 시 읽음 처리 완료 for userId={} in roomId={}", userId, roomId);
@@ -78,6 +94,7 @@ public class StompHandler implements ChannelInterceptor {
                 log.info("[handleMessage] SEND");
                 destination = accessor.getDestination();
                 log.info("[handleMessage] 메세지 맵핑 주소 = {}", destination);
+                touchPresence(accessor);
 
                 // 목적지가 /app/{roomId}/vote 패턴과 일치하는지 확인
                 if (destination != null && destination.matches("^/app/\\d+/vote$")) {
@@ -95,8 +112,10 @@ public class StompHandler implements ChannelInterceptor {
                 if (userId != null && roomId != null) {
                     log.info("[handleMessage] userId={}가 roomId={}에서 퇴장합니다.", userId, roomId);
 
-                    // Redis에서 채팅방 인원 수 감소 처리
-                    disconnectChatRoom(roomId, userId);
+                    // Redis에서 채팅방 인원 수 감소 처리 (채팅방 lane 에서 순서대로 처리)
+                    Long exitUserId = userId;
+                    String sessionId = accessor.getSessionId();
+                    chatRoomExecutor.executeOrRun(roomId, () -> disconnectChatRoom(roomId, exitUserId, sessionId));
                 } else {
                     log.warn("[handleMessage] 세션에 userId 또는 roomId가 없습니다.");
                 }
@@ -104,52 +123,94 @@ public class StompHandler implements ChannelInterceptor {
         }
     }
 
-    public void connectChatRoom(Long roomId, Long userId) {
-        log.info("[connectChatRoom] roomId={}, userId={}", roomId, userId);
+    public void connectChatRoom(Long roomId, Long userId, String sessionId, boolean heartbeat) {
+        log.info("[connectChatRoom] roomId={}, userId={}, sessionId={}, heartbeat={}", roomId, userId, sessionId, heartbeat);
 
-        String chatRoomUserCountKey = "CHAT_ROOM_USER_COUNT_" + roomId;
-        log.info("[connectChatRoom] chatRoomUserCountKey={}", chatRoomUserCountKey);
-
-        Long roomUserCount = redisUtil.getSetSize(chatRoomUserCountKey);
-        log.info("[connectChatRoom] 기존 채팅방 구독한 사람 수 roomUserCount={}", roomUserCount);
-
-        // 채팅방에 있는 사용자를 Redis에 추가
-        roomUserCount = redisUtil.insertSet(chatRoomUserCountKey, String.valueOf(userId));
+        // 채팅방에 있는 세션을 Redis에 추가하고 읽음 위치 갱신 (한 번의 Redis 왕복)
+        Long roomUserCount = redisService.enterChatRoom(roomId, userId, sessionId, System.currentTimeMillis(), heartbeat);
         log.info("[connectChatRoom] 구독 후 채팅방 사람 수 roomUserCount={}", roomUserCount);
 
-        // CompletableFuture로 읽음 처리 후 이벤트 호출
-        CompletableFuture.runAsync(() -> markMessagesAsRead(roomId, userId))
-                .thenRunAsync(() -> chatRoomService.notifyReadStatusUpdate(roomId));
+        // 첫 구독자가 들어온 경우 채팅방 구성원 스냅샷 생성 (Feign, MySQL 조회이므로 lane 밖에서)
+        if (roomUserCount != null && roomUserCount == 1) {
+            roomRosterService.refreshRosterAsync(roomId);
+        }
+
+        // 읽음 상태 업데이트 이벤트 호출
+        chatRoomService.notifyReadStatusUpdate(roomId);
 
         log.info("[connectChatRoom] 읽음 처리 완료 후 이벤트 전송 완료");
     }
 
-    public void disconnectChatRoom(Long roomId, Long userId) {
-        log.info("[disconnectChatRoom] roomId={}, userId={}", roomId, userId);
+    public void disconnectChatRoom(Long roomId, Long userId, String sessionId) {
+        log.info("[disconnectChatRoom] roomId={}, userId={}, sessionId={}", roomId, userId, sessionId);
 
-        String chatRoomUserCountKey = "CHAT_ROOM_USER_COUNT_" + roomId;
-
-        // Redis에서 사용자 퇴장 처리
-        Long remainingUserCount = redisUtil.deleteSet(chatRoomUserCountKey, String.valueOf(userId));
+        // Redis에서 세션 퇴장 처리 후 퇴장 시점까지 읽은 것으로 읽음 위치 갱신 (한 번의 Redis 왕복)
+        Long remainingUserCount = redisService.exitChatRoom(roomId, userId, sessionId, System.currentTimeMillis());
         log.info("[disconnectChatRoom] 퇴장 후 채팅방 인원 수 remainingUserCount={}", remainingUserCount);
 
+        // 마지막 구독자가 나간 경우 채팅방 구성원 스냅샷 제거
+        if (remainingUserCount != null && remainingUserCount == 0) {
+            roomRosterService.evictRoster(roomId);
+        }
+
         // 읽음 상태 업데이트 알림 전송
         chatRoomService.notifyRoomExit(roomId, userId);
     }
 
-    private Long connectToChatRoom(MessageHeaders headers, Long userId) {
+    private Long connectToChatRoom(MessageHeaders headers, Long userId, String sessionId, boolean heartbeat) {
         Long roomId = getChatRoomNo(headers);
         log.info("[connectToChatRoom] 채팅방 번호 = {}", roomId);
 
-        UserInfoResponse user = userServiceFeignClient.getUser(userId).getData();
-        log.info("[connectToChatRoom] 회원 이름 = {}", user.getUserNickname());
-
-        connectChatRoom(roomId, user.getUserId());
-        log.info("[connectToChatRoom] 채팅방 인원 증가");
+        // 입장 처리는 채팅방 lane 에서 순서대로 처리 (이후 같은 채팅방의 전송보다 먼저 실행)
+        chatRoomExecutor.execute(roomId, () -> connectChatRoom(roomId, userId, sessionId, heartbeat));
+        log.info("[connectToChatRoom] 채팅방 인원 증가 요청");
 
         return roomId;
     }
 
+    // heartbeat, 메시지 전송 시 접속 정보의 마지막 heartbeat 시간 갱신
+    private void touchPresence(StompHeaderAccessor accessor) {
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes == null) {
+            return;
+        }
+
+        Long userId = (Long) sessionAttributes.get("userId");
+        Long roomId = (Long) sessionAttributes.get("roomId");
+        if (userId == null || roomId == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Long touchedAt = (Long) sessionAttributes.get("presenceTouchedAt");
+        if (touchedAt != null && now - touchedAt < presenceTouchIntervalMs) {
+            return;
+        }
+        sessionAttributes.put("presenceTouchedAt", now);
+
+        String sessionId = accessor.getSessionId();
+        boolean heartbeat = hasHeartbeat(sessionAttributes);
+        if (!redisService.touchPresence(roomId, userId, sessionId, now, heartbeat)) {
+            // 만료되어 제거된 세션이 다시 살아난 경우 재입장 처리
+            log.info("[touchPresence] 만료된 접속 정보 재등록 roomId={}, userId={}, sessionId={}", roomId, userId, sessionId);
+            try {
+                chatRoomExecutor.execute(roomId, () -> connectChatRoom(roomId, userId, sessionId, heartbeat));
+            } catch (RejectedExecutionException e) {
+                // presenceTouchedAt 이후 다음 갱신에서 다시 시도
+                log.warn("[touchPresence] 재입장 처리 요청 실패 roomId={}, userId={}, sessionId={}", roomId, userId, sessionId);
+            }
+        }
+    }
+
+    private boolean hasHeartbeat(Map<String, Object> sessionAttributes) {
+        return sessionAttributes != null && Boolean.TRUE.equals(sessionAttributes.get("presenceHeartbeat"));
+    }
+
+    private boolean isChatDestination(String destination, String room) {
+        return destination.equals(room) || destination.equals(room + "/v2")
+                || destination.equals(room + RoomFrameBatcher.BATCH_SUFFIX) || destination.equals(room + "/v2" + RoomFrameBatcher.BATCH_SUFFIX);
+    }
+
     private Long getChatRoomNo(MessageHeaders headers) {
         String destination = Optional.ofNullable((String) headers.get("simpDestination")).orElse("InvalidRoomId");
         log.info("[getChatRoomNo] destination={}", destination);
@@ -170,29 +231,4 @@ public class StompHandler implements ChannelInterceptor {
         return null;
     }
 
-    private void markMessagesAsRead(Long roomId, Long userId) {
-        List<Chat> chats = chatRepository.findAllByRoomId(roomId);
-
-        for (Chat chat : chats) {
-            String readStatusKey = "READ_STATUS_" + roomId + "_" + chat.getChatId();
-            String unreadCountKey = "UNREAD_COUNT_" + roomId + "_" + chat.getChatId();
-
-            // Redis에서 읽음 상태 체크
-            boolean isAlreadyRead = redisUtil.containSet(readStatusKey, String.valueOf(userId));
-
-            // MongoDB에서 읽음 상태 체크
-            boolean isAlreadyReadInMongo = chat.getReadByUserIds().contains(userId);
-
-            if (!isAlreadyRead && !isAlreadyReadInMongo) {
-                redisUtil.insertSet(readStatusKey, String.valueOf(userId));
-                redisUtil.decrementString(unreadCountKey);
-                log.info("[markMessagesAsRead] userId={}가 messageId={}를 Redis에서 읽음 처리함", userId, chat.getChatId());
-
-                chat.markAsRead(userId);
-                chatRepository.save(chat);
-                log.info("[markMessagesAsRead] userId={}가 messageId={}를 MongoDB에서 읽음 처리함", userId, chat.getChatId());
-            }
-        }
-    }
-
 }
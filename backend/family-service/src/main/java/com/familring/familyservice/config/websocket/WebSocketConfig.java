@@ -4,11 +4,13 @@ import com.familring.familyservice.exception.base.GlobalExceptionHandler;
 import com.familring.familyservice.exception.base.StompErrorHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.*;
 import org.springframework.web.socket.messaging.StompSubProtocolErrorHandler;
 
@@ -19,6 +21,25 @@ import org.springframework.web.socket.messaging.StompSubProtocolErrorHandler;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final SlowConsumerPolicy slowConsumerPolicy;
+
+    @Value("${familring.websocket.outbound.pool-size:8}")
+    private int outboundPoolSize;
+
+    // 서버/클라이언트 heartbeat 간격, 접속 정보(presence) 갱신 주기로 사용
+    @Value("${familring.chat.presence.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    // SockJS 없이 연결하는 웹소켓 엔드포인트 (Android 클라이언트용), SockJS 엔드포인트는 기존 클라이언트를 위해 유지
+    @Value("${familring.websocket.native.enabled:true}")
+    private boolean nativeEndpointEnabled;
+
+    @Value("${familring.websocket.native.path:/ws-stomp-native}")
+    private String nativeEndpointPath;
+
+    // 클라이언트가 요청한 permessage-deflate 압축 수락 여부
+    @Value("${familring.websocket.native.compression:true}")
+    private boolean nativeCompression;
 
     @Bean
     public StompSubProtocolErrorHandler stompErrorHandler(ObjectMapper objectMapper, SimpMessagingTemplate messagingTemplate) {
@@ -30,17 +51,50 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws-stomp")
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
+        if (nativeEndpointEnabled) {
+            registry.addEndpoint(nativeEndpointPath)
+                    .setAllowedOriginPatterns("*")
+                    .setHandshakeHandler(new NativeWebSocketHandshakeHandler(nativeCompression));
+        }
         registry.setErrorHandler(stompErrorHandler(null, null)); // 여기도 수정
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/send");
-        registry.enableSimpleBroker("/room");
+        registry.enableSimpleBroker("/room")
+                .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                .setTaskScheduler(heartbeatScheduler());
+    }
+
+    // @Scheduled 기본 스케줄러를 대체하지 않도록 빈으로 등록하지 않음
+    private ThreadPoolTaskScheduler heartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        return scheduler;
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompHandler);
     }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 세션 전송은 SlowConsumerPolicy 의 버퍼에 넣고 바로 반환하므로 outbound 스레드는 고정 크기로 유지
+        registration.taskExecutor()
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) slowConsumerPolicy.getSendTimeLimitMs())
+                .setSendBufferSizeLimit(slowConsumerPolicy.getSendBufferSizeLimit())
+                .setMessageSizeLimit(slowConsumerPolicy.getMessageSizeLimit())
+                .addDecoratorFactory(slowConsumerPolicy);
+    }
 }
\ No newline at end of file
@@ -1,16 +1,27 @@
 package com.familring.familyservice.controller;
 
+import com.familring.familyservice.config.executor.ChatRoomExecutor;
+import com.familring.familyservice.config.websocket.RoomFrameBatcher;
+import com.familring.familyservice.exception.chat.NotChatRoomMemberException;
+import com.familring.familyservice.model.dto.chat.RoomRoster;
 import com.familring.familyservice.model.dto.response.ChatResponse;
+import com.familring.familyservice.model.dto.response.RoomRosterResponse;
 import com.familring.familyservice.model.dto.chat.Chat;
 import com.familring.familyservice.model.dto.request.ChatRequest;
+import com.familring.familyservice.service.chat.ChatBroadcastService;
 import com.familring.familyservice.service.chat.ChatService;
+import com.familring.familyservice.service.chat.RoomRosterService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+
 @RestController
 @RequestMapping("/family")
 @RequiredArgsConstructor
@@ -19,20 +30,52 @@ import org.springframework.web.bind.annotation.*;
 @Log4j2
 public class ChatController {
 
-    private final SimpMessagingTemplate template;
+    private final ChatBroadcastService chatBroadcastService;
+    private final ChatRoomExecutor chatRoomExecutor;
     private final ChatService chatService;
+    private final RoomRosterService roomRosterService;
+    private final RoomFrameBatcher roomFrameBatcher;
+
+    // v2 클라이언트는 채팅방 구독 시 구성원 정보를 한 번 조회 (구독한 세션에만 응답)
+    @SubscribeMapping("/chat.roster/{roomId}")
+    public RoomRosterResponse subscribeRoster(@DestinationVariable Long roomId, SimpMessageHeaderAccessor headerAccessor) {
+        log.info("[subscribeRoster] 채팅방 Id = {}", roomId);
+
+        // 채팅방 구성원만 구성원 정보 조회 가능
+        Long userId = headerAccessor.getSessionAttributes() == null ? null : (Long) headerAccessor.getSessionAttributes().get("userId");
+        if (userId == null || roomRosterService.findMember(roomId, userId) == null) {
+            log.warn("[subscribeRoster] 채팅방 구성원이 아닌 회원의 구독 roomId={}, userId={}", roomId, userId);
+            throw new NotChatRoomMemberException();
+        }
+
+        RoomRoster roster = roomRosterService.getRoster(roomId);
+
+        return RoomRosterResponse.builder()
+                .roomId(roomId)
+                .familyCount(roster.getFamilyCount())
+                .members(new ArrayList<>(roster.getMembers().values()))
+                .frameBatching(roomFrameBatcher.isBatched(roomId))
+                .batchWindowMs(roomFrameBatcher.getWindowMs())
+                .build();
+    }
 
     @MessageMapping("/chat.send")
     public void sendMessage(ChatRequest chatRequest) {
         Long roomId = chatRequest.getRoomId();
         log.info("[sendMessage] 채팅방 Id = {}", roomId);
 
-        // 일반 메시지 생성 및 처리
-        Chat chat = chatService.createChatOrVoiceOrPhotoOrVote(roomId, chatRequest);
-        ChatResponse chatResponse = chatService.findChat(chat, chatRequest.getSenderId());
+        loadRoster(roomId, chatRequest.getSenderId());
+
+        // 같은 채팅방의 작업은 채팅방 lane 에서 순서대로 처리
+        chatRoomExecutor.execute(roomId, () -> {
+            // 일반 메시지 생성 및 처리
+            Chat chat = chatService.createChatOrVoiceOrPhotoOrVote(roomId, chatRequest);
+            ChatResponse chatResponse = chatService.findChat(chat, chatRequest.getSenderId());
+            chatService.recordChat(chat, chatResponse);
 
-        template.convertAndSend("/room/" + roomId, chatResponse);
-        log.debug("[sendMessage] 일반 메시지 소켓 전송 완료.");
+            chatBroadcastService.broadcastChat(roomId, chatResponse);
+            log.debug("[sendMessage] 일반 메시지 소켓 전송 완료.");
+        });
     }
 
     @MessageMapping("/chat.voice")
@@ -40,12 +83,18 @@ public class ChatController {
         Long roomId = chatRequest.getRoomId();
         log.info("[sendVoiceMessage] 채팅방 Id = {}", roomId);
 
-        // 음성 메시지 생성 및 처리
-        Chat chat = chatService.createChatOrVoiceOrPhotoOrVote(roomId, chatRequest);
-        ChatResponse voiceChatResponse = chatService.findChat(chat, chatRequest.getSenderId());
+        loadRoster(roomId, chatRequest.getSenderId());
 
-        template.convertAndSend("/room/" + roomId, voiceChatResponse);
-        log.debug("[sendVoiceMessage] 음성 메시지 소켓 전송 완료.");
+        // 같은 채팅방의 작업은 채팅방 lane 에서 순서대로 처리
+        chatRoomExecutor.execute(roomId, () -> {
+            // 음성 메시지 생성 및 처리
+            Chat chat = chatService.createChatOrVoiceOrPhotoOrVote(roomId, chatRequest);
+            ChatResponse voiceChatResponse = chatService.findChat(chat, chatRequest.getSenderId());
+            chatService.recordChat(chat, voiceChatResponse);
+
+            chatBroadcastService.broadcastChat(roomId, voiceChatResponse);
+            log.debug("[sendVoiceMessage] 음성 메시지 소켓 전송 완료.");
+        });
     }
     
     @MessageMapping("/chat.photo")
@@ -53,12 +102,18 @@ public class ChatController {
         Long roomId = chatRequest.getRoomId();
         log.info("[sendPhotoMessage] 채팅방 Id = {}", roomId);
 
-        // 사진 메시지 생성 및 처리
-        Chat chat = chatService.createChatOrVoiceOrPhotoOrVote(roomId, chatRequest);
-        ChatResponse voiceChatResponse = chatService.findChat(chat, chatRequest.getSenderId());
+        loadRoster(roomId, chatRequest.getSenderId());
+
+        // 같은 채팅방의 작업은 채팅방 lane 에서 순서대로 처리
+        chatRoomExecutor.execute(roomId, () -> {
+            // 사진 메시지 생성 및 처리
+            Chat chat = chatService.createChatOrVoiceOrPhotoOrVote(roomId, chatRequest);
+            ChatResponse voiceChatResponse = chatService.findChat(chat, chatRequest.getSenderId());
+            chatService.recordChat(chat, voiceChatResponse);
 
-        template.convertAndSend("/room/" + roomId, voiceChatResponse);
-        log.debug("[sendPhotoMessage] 음성 메시지 소켓 전송 완료.");
+            chatBroadcastService.broadcastChat(roomId, voiceChatResponse);
+            log.debug("[sendPhotoMessage] 음성 메시지 소켓 전송 완료.");
+        });
     }
 
     @MessageMapping("/chat.vote")
@@ -67,22 +122,34 @@ public class ChatController {
         String voteId = chatRequest.getVoteId();
         log.info("[participateInVote] 채팅방 Id = {}, voteId={}", roomId, voteId);
 
-        // 투표 응답 처리
-        Chat chatVoteResponse = chatService.createChatVoteResponse(roomId, voteId, chatRequest);
-        ChatResponse chatResponse = chatService.findChat(chatVoteResponse, chatRequest.getSenderId());
+        loadRoster(roomId, chatRequest.getSenderId());
 
-        template.convertAndSend("/room/" + roomId, chatResponse);
-        log.info("[participateInVote] 투표 응답 소켓 전송 완료.");
+        // 같은 채팅방의 작업은 채팅방 lane 에서 순서대로 처리
+        chatRoomExecutor.execute(roomId, () -> {
+            // 투표 응답 처리
+            Chat chatVoteResponse = chatService.createChatVoteResponse(roomId, voteId, chatRequest);
+            ChatResponse chatResponse = chatService.findChat(chatVoteResponse, chatRequest.getSenderId());
+            chatService.recordChat(chatVoteResponse, chatResponse);
 
-        // 모든 투표가 완료된 경우 투표 결과 전송
-        if (chatVoteResponse.getIsVoteEnd()) {
-            log.info("[participateInVote] 채팅 결과 소켓 전송");
+            chatBroadcastService.broadcastChat(roomId, chatResponse);
+            log.info("[participateInVote] 투표 응답 소켓 전송 완료.");
 
-            Chat chatVoteResult = chatService.createChatVoteResult(roomId, voteId, chatRequest);
-            chatResponse = chatService.findChat(chatVoteResult, chatRequest.getSenderId());
+            // 모든 투표가 완료된 경우 투표 결과 전송
+            if (chatVoteResponse.getIsVoteEnd()) {
+                log.info("[participateInVote] 채팅 결과 소켓 전송");
 
-            template.convertAndSend("/room/" + roomId, chatResponse);
-            log.info("[participateInVote] 투표 결과 소켓 전송 완료.");
-        }
+                Chat chatVoteResult = chatService.createChatVoteResult(roomId, voteId, chatRequest);
+                chatResponse = chatService.findChat(chatVoteResult, chatRequest.getSenderId());
+                chatService.recordChat(chatVoteResult, chatResponse);
+
+                chatBroadcastService.broadcastChat(roomId, chatResponse);
+                log.info("[participateInVote] 투표 결과 소켓 전송 완료.");
+            }
+        });
+    }
+
+    // 구성원 스냅샷이 없으면 lane 에 넣기 전에 생성 (lane 에서 Feign, MySQL 조회를 하지 않도록)
+    private void loadRoster(Long roomId, Long senderId) {
+        roomRosterService.findMember(roomId, senderId);
     }
 }
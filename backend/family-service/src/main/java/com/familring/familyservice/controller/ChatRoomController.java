@@ -1,17 +1,28 @@
 package com.familring.familyservice.controller;
 
 import com.familring.common_module.dto.BaseResponse;
+import com.familring.familyservice.config.web.AsyncTimeoutInterceptor;
 import com.familring.familyservice.model.dto.response.ChatPageResponse;
 import com.familring.familyservice.model.dto.response.ChatResponse;
+import com.familring.familyservice.model.dto.response.ChatSearchResponse;
+import com.familring.familyservice.model.dto.response.ChatSyncResponse;
+import com.familring.familyservice.service.chat.ChatExportService;
 import com.familring.familyservice.service.chat.ChatRoomService;
+import com.familring.familyservice.service.chat.search.ChatSearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -24,6 +35,12 @@ import java.util.List;
 public class ChatRoomController {
 
     private final ChatRoomService chatRoomService;
+    private final ChatSearchService chatSearchService;
+    private final ChatExportService chatExportService;
+
+    // 채팅 내보내기(StreamingResponseBody) 응답 제한 시간
+    @Value("${familring.chat.export.timeout-ms:600000}")
+    private long exportTimeoutMs;
 
     @GetMapping("enter/{roomId}")
     @Operation(summary = "채팅방 입장", description = "roomId에 해당하는 채팅방의 채팅 List를 페이징 처리하여 조회")
@@ -32,7 +49,7 @@ public class ChatRoomController {
             @RequestParam(value = "page") int page, @RequestParam(value = "size") int size) {
         try {
             log.info("[joinRoom] 채팅방 입장 요청 roomId={}, userId={}, page={}, size={}", roomId, userId, page, size);
-            Page<ChatResponse> chatPage = chatRoomService.findPagedChatByRoomId(roomId, userId, page, size);
+            Slice<ChatResponse> chatPage = chatRoomService.findPagedChatByRoomId(roomId, userId, page, size);
 
             ChatPageResponse chatPageResponse = ChatPageResponse.builder()
                     .hasNext(chatPage.hasNext())
@@ -49,4 +66,62 @@ public class ChatRoomController {
         }
     }
 
+    @GetMapping("{roomId}/chats")
+    @Operation(summary = "채팅 커서 페이징 조회", description = "before(chatId) 이전의 채팅 List를 최신순으로 size개 조회, before가 없으면 최신 채팅부터 조회")
+    public ResponseEntity<BaseResponse<ChatPageResponse>> findChatBeforeCursor(
+            @PathVariable Long roomId, @RequestHeader("X-User-ID") Long userId,
+            @RequestParam(value = "before", required = false) String before, @RequestParam(value = "size") int size) {
+        log.info("[findChatBeforeCursor] 채팅 조회 요청 roomId={}, userId={}, before={}, size={}", roomId, userId, before, size);
+        Slice<ChatResponse> chatSlice = chatRoomService.findChatBeforeCursor(roomId, userId, before, size);
+
+        ChatPageResponse chatPageResponse = ChatPageResponse.builder()
+                .hasNext(chatSlice.hasNext())
+                .chatList(chatSlice.getContent())
+                .build();
+
+        return ResponseEntity.ok(BaseResponse.create(HttpStatus.OK.value(), "채팅을 성공적으로 조회했습니다.", chatPageResponse));
+    }
+
+    @GetMapping("{roomId}/sync")
+    @Operation(summary = "채팅 변경분 조회", description = "since(채팅방 순번)부터의 채팅, 투표 상태, 읽음 상태를 오래된 순으로 size개(1~100) 조회 (재접속 시 놓친 변경분만 조회, since 순번의 채팅도 다시 포함되므로 chatId로 중복 제거)")
+    public ResponseEntity<BaseResponse<ChatSyncResponse>> findChatSince(
+            @PathVariable Long roomId, @RequestHeader("X-User-ID") Long userId,
+            @RequestParam(value = "since") long since, @RequestParam(value = "size", defaultValue = "100") int size) {
+        log.info("[findChatSince] 변경분 조회 요청 roomId={}, userId={}, since={}, size={}", roomId, userId, since, size);
+        ChatSyncResponse chatSyncResponse = chatRoomService.findChatSince(roomId, userId, since, size);
+
+        return ResponseEntity.ok(BaseResponse.create(HttpStatus.OK.value(), "채팅 변경분을 성공적으로 조회했습니다.", chatSyncResponse));
+    }
+
+    @GetMapping("{roomId}/search")
+    @Operation(summary = "채팅 검색", description = "채팅방에서 query를 포함하는 채팅을 최신순으로 size개(1~50) 조회, 다음 페이지는 응답의 nextCursor를 before로 전달")
+    public ResponseEntity<BaseResponse<ChatSearchResponse>> searchChat(
+            @PathVariable Long roomId, @RequestHeader("X-User-ID") Long userId, @RequestParam(value = "query") String query,
+            @RequestParam(value = "before", required = false) Integer before, @RequestParam(value = "size") int size) {
+        log.info("[searchChat] 채팅 검색 요청 roomId={}, userId={}, query={}, before={}, size={}", roomId, userId, query, before, size);
+        ChatSearchResponse chatSearchResponse = chatSearchService.searchChat(roomId, userId, query, before, size);
+
+        return ResponseEntity.ok(BaseResponse.create(HttpStatus.OK.value(), "채팅을 성공적으로 검색했습니다.", chatSearchResponse));
+    }
+
+    @GetMapping("{roomId}/export")
+    @Operation(summary = "채팅 내보내기", description = "채팅방의 전체 채팅을 오래된 순으로 한 줄에 하나씩 JSON Lines 파일로 내려받기")
+    public ResponseEntity<StreamingResponseBody> exportChat(@PathVariable Long roomId, @RequestHeader("X-User-ID") Long userId,
+                                                            HttpServletRequest request) {
+        log.info("[exportChat] 채팅 내보내기 요청 roomId={}, userId={}", roomId, userId);
+        // 응답을 쓰기 시작한 후에는 에러 응답을 보낼 수 없으므로 권한은 먼저 확인
+        chatExportService.checkExportable(roomId, userId);
+
+        // 다른 비동기 요청의 기본 제한 시간은 그대로 두고 내보내기 요청에만 적용
+        AsyncTimeoutInterceptor.setTimeout(request, exportTimeoutMs);
+        StreamingResponseBody body = outputStream -> chatExportService.exportChat(roomId, userId, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("familring-chat-" + roomId + ".jsonl")
+                        .build()
+                        .toString())
+                .body(body);
+    }
 }
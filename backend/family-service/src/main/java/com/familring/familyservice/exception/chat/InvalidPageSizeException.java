@@ -0,0 +1,10 @@
+package com.familring.familyservice.exception.chat;
+
+import com.familring.familyservice.exception.base.ApplicationException;
+import com.familring.familyservice.exception.constant.ErrorDetail;
+
+public class InvalidPageSizeException extends ApplicationException {
+    public InvalidPageSizeException() {
+        super(ErrorDetail.INVALID_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,10 @@
+package com.familring.familyservice.exception.chat;
+
+import com.familring.familyservice.exception.base.ApplicationException;
+import com.familring.familyservice.exception.constant.ErrorDetail;
+
+public class InvalidVoteResponseException extends ApplicationException {
+    public InvalidVoteResponseException() {
+        super(ErrorDetail.INVALID_VOTE_RESPONSE);
+    }
+}
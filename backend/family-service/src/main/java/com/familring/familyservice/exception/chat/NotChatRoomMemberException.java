@@ -0,0 +1,10 @@
+package com.familring.familyservice.exception.chat;
+
+import com.familring.familyservice.exception.base.ApplicationException;
+import com.familring.familyservice.exception.constant.ErrorDetail;
+
+public class NotChatRoomMemberException extends ApplicationException {
+    public NotChatRoomMemberException() {
+        super(ErrorDetail.NOT_CHAT_ROOM_MEMBER);
+    }
+}
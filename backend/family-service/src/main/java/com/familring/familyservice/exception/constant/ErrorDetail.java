@@ -14,8 +14,12 @@ public enum ErrorDetail {
 
     // ChatResponse
     NOT_FOUND_CHAT_ROOM("C0001", HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없습니다."),
+    NOT_FOUND_CHAT("C0002", HttpStatus.NOT_FOUND, "채팅을 찾을 수 없습니다."),
+    NOT_CHAT_ROOM_MEMBER("C0003", HttpStatus.FORBIDDEN, "채팅방 구성원이 아닙니다."),
+    INVALID_PAGE_SIZE("C0004", HttpStatus.BAD_REQUEST, "유효하지 않은 조회 개수입니다."),
     NOT_FOUND_VOTE("V0001", HttpStatus.NOT_FOUND, "투표를 찾을 수 없습니다."),
-    ALREADY_PARTICIPATED("V0002", HttpStatus.CONFLICT, "사용자가 이미 투표에 참여했습니다.");
+    ALREADY_PARTICIPATED("V0002", HttpStatus.CONFLICT, "사용자가 이미 투표에 참여했습니다."),
+    INVALID_VOTE_RESPONSE("V0003", HttpStatus.BAD_REQUEST, "유효하지 않은 투표 응답입니다.");
 
     private final String errorCode;
     private final HttpStatus httpStatus;
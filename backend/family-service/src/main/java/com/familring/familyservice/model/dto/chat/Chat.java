@@ -2,24 +2,27 @@ package com.familring.familyservice.model.dto.chat;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.time.ZoneId;
 import java.util.Map;
-import java.util.Set;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "chats")
+@CompoundIndex(name = "room_created_id", def = "{'roomId': 1, 'createdAt': -1, '_id': -1}") // 채팅방별 최신순 커서 페이징
+@CompoundIndex(name = "room_seq", def = "{'roomId': 1, 'seq': 1}") // 채팅방별 순번 이후 변경분 조회
 @ToString
 public class Chat {
 
     @Id
     private String chatId;
     private Long roomId; // 채팅 방의 id == familyId
+    private Long seq; // 채팅방별 순번 (전송 시 1부터 증가, 저장 실패 시 빈 번호가 생길 수 있고 순번 초기화 시 드물게 중복될 수 있음)
     private MessageType messageType; // 메세지의 타입
     private int familyCount; // 채팅 방 사람 총 수
 
@@ -39,9 +42,6 @@ public class Chat {
     
     // 투표 결과
     private Map<String, Integer> resultOfVote; // 투표 결과
-    
-    // 읽음 처리
-    private Set<Long> readByUserIds; // 읽음 사람 id 저장
 
     // getter, setter
     public boolean getIsVoteEnd() {
@@ -52,13 +52,8 @@ public class Chat {
         this.isVoteEnd = isVoteEnd;
     }
 
-    // 읽음 처리 메소드
-    public void markAsRead(Long userId) {
-        readByUserIds.add(userId);
-    }
-
-    // 몇 명이 읽었는지 계산하는 메소드
-    public int getReadCount() {
-        return readByUserIds.size();
+    // 읽음 위치 계산 메소드 (회원의 마지막 읽음 위치와 비교)
+    public long toReadPosition() {
+        return createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.familring.familyservice.model.dto.chat;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Builder
+@ToString
+public class ExpiredPresence {
+    private final Long roomId; // 채팅 방의 id == familyId
+    private final List<Long> userIds; // heartbeat 가 끊겨 퇴장 처리한 회원 id
+    private final long remainingCount; // 정리 후 채팅방에 남은 접속 세션 수
+}
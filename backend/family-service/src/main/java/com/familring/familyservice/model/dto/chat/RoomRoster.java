@@ -0,0 +1,23 @@
+package com.familring.familyservice.model.dto.chat;
+
+import com.familring.familyservice.model.dto.response.UserInfoResponse;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Builder
+@ToString
+public class RoomRoster {
+    private final Long roomId; // 채팅 방의 id == familyId
+    private final Map<Long, UserInfoResponse> members; // 구성원 id와 회원 정보 (닉네임, 별자리, 색상 등)
+    private final int familyCount; // 가족 구성원 수
+    private final LocalDateTime loadedAt; // 스냅샷 생성 시간
+
+    public UserInfoResponse getMember(Long userId) {
+        return members.get(userId);
+    }
+}
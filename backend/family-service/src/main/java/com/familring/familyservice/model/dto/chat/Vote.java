@@ -6,6 +6,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Data
 @Builder
@@ -29,4 +30,13 @@ public class Vote {
     // 채팅 정보
     private Long roomId; // 채팅 방의 id == familyId
     private Long senderId; // 발신자 id
+
+    // 항목별 집계 (참여 시 집계하기 전의 기존 투표는 voteResult 가 비어 있으므로 choices 로 집계)
+    public Map<String, Integer> countVoteResult() {
+        if ((voteResult == null || voteResult.isEmpty()) && choices != null && !choices.isEmpty()) {
+            return choices.values().stream()
+                    .collect(Collectors.groupingBy(option -> option, Collectors.summingInt(option -> 1)));
+        }
+        return voteResult;
+    }
 }
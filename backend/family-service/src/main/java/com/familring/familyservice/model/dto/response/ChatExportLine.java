@@ -0,0 +1,31 @@
+package com.familring.familyservice.model.dto.response;
+
+import com.familring.familyservice.model.dto.chat.MessageType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// 채팅 내보내기 한 줄 (JSON Lines)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChatExportLine {
+    private String chatId; // 채팅 id
+    private Long seq; // 채팅방별 순번
+    private MessageType messageType; // 메세지의 타입
+    private Long senderId; // 발신자 id
+    private String senderNickname; // 발신자 닉네임 (가족을 떠난 회원은 없음)
+    private String content; // 채팅 내용
+    private String mediaUrl; // 음성, 사진 메세지의 파일 주소
+    private LocalDateTime createdAt; // 채팅 발신 시간
+    private String voteId; // 투표 id
+    private String responseOfVote; // 투표 응답
+    private Map<String, Integer> resultOfVote; // 투표 결과
+}
@@ -8,12 +8,13 @@ import java.time.LocalDateTime;
 import java.util.Map;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChatResponse {
     private String chatId; // 채팅의 id
     private Long roomId; // 채팅 방의 id == familyId
+    private Long seq; // 채팅방별 순번
     private MessageType messageType; // 메세지의 타입
     
     private Long senderId; // 발신자 id
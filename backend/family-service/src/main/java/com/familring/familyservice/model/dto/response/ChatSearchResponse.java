@@ -0,0 +1,18 @@
+package com.familring.familyservice.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatSearchResponse {
+    private boolean hasNext;
+    private Integer nextCursor; // 다음 페이지 요청의 before (없으면 null)
+    private List<ChatResponse> chatList; // 검색된 채팅 (최신순)
+}
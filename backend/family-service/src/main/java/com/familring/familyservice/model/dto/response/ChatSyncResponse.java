@@ -0,0 +1,23 @@
+package com.familring.familyservice.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+// since(순번) 이후 변경분 - 재접속한 클라이언트가 놓친 채팅, 투표, 읽음 상태만 받아감
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatSyncResponse {
+    private Long roomId; // 채팅 방의 id == familyId
+    private Long lastSeq; // 응답에 포함된 마지막 순번 (다음 요청의 since)
+    private boolean hasMore; // 남은 변경분 존재 여부
+    private List<LeanChatResponse> chats; // since 이후 채팅 (오래된 순)
+    private List<VoteStateResponse> votes; // 변경분 채팅이 가리키는 투표의 현재 상태
+    private Map<String, Integer> unReadMembers; // 최신 채팅의 안읽은 사람 수
+}
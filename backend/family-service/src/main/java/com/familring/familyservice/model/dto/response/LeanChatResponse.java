@@ -0,0 +1,73 @@
+package com.familring.familyservice.model.dto.response;
+
+import com.familring.familyservice.model.dto.chat.MessageType;
+import com.familring.familyservice.model.dto.chat.Vote;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// 채팅방 브로드캐스트용 v2 응답 (/room/{roomId}/v2)
+// 발신자는 id만 전달 (회원 정보는 구독 시 /send/chat.roster/{roomId} 로 한 번 조회), 투표는 바뀐 집계만 전달
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LeanChatResponse {
+    private String chatId; // 채팅의 id
+    private Long roomId; // 채팅 방의 id == familyId
+    private Long seq; // 채팅방별 순번
+    private MessageType messageType; // 메세지의 타입
+    private Long senderId; // 발신자 id
+    private String content; // 채팅 내용
+    private LocalDateTime createdAt; // 채팅 발신 시간
+    private int unReadMembers; // 안읽은 사람 수
+
+    // 투표
+    private String voteId; // 투표 Id
+    private String voteTitle; // 투표 제목 (투표 생성)
+    private String responseOfVote; // 투표 응답 (투표 응답)
+    private Map<String, Integer> voteTally; // 응답한 항목의 변경된 집계 (투표 응답)
+    private Integer voteParticipants; // 투표 참여 인원 (투표 응답)
+    private Boolean voteEnd; // 투표 끝남 유무 (투표 응답)
+    private Map<String, Integer> resultOfVote; // 투표 결과 (투표 결과)
+
+    public static LeanChatResponse from(ChatResponse chatResponse) {
+        LeanChatResponse response = LeanChatResponse.builder()
+                .chatId(chatResponse.getChatId())
+                .roomId(chatResponse.getRoomId())
+                .seq(chatResponse.getSeq())
+                .messageType(chatResponse.getMessageType())
+                .senderId(chatResponse.getSenderId())
+                .content(chatResponse.getContent())
+                .createdAt(chatResponse.getCreatedAt())
+                .unReadMembers(chatResponse.getUnReadMembers())
+                .build();
+
+        Vote vote = chatResponse.getVote();
+        if (vote == null) {
+            return response;
+        }
+
+        response.setVoteId(vote.getVoteId());
+        switch (chatResponse.getMessageType()) {
+            case VOTE -> response.setVoteTitle(vote.getVoteTitle());
+            case VOTE_RESPONSE -> {
+                String option = chatResponse.getResponseOfVote();
+                response.setResponseOfVote(option);
+                response.setVoteTally(Map.of(option, vote.countVoteResult().getOrDefault(option, 0)));
+                response.setVoteParticipants(vote.getChoices().size());
+                response.setVoteEnd(vote.isCompleted());
+            }
+            case VOTE_RESULT -> response.setResultOfVote(chatResponse.getResultOfVote());
+            default -> {
+            }
+        }
+        return response;
+    }
+}
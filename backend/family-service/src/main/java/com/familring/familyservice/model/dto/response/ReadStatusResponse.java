@@ -0,0 +1,23 @@
+package com.familring.familyservice.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+// 읽음 상태 v2 응답 (/room/{roomId}/v2/readStatus)
+// 짧은 시간 동안의 읽음 상태 변경을 모아 한 번에 전송하므로 클라이언트는 다시 조회하지 않고 바로 반영
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class ReadStatusResponse {
+    private String type; // READ: 읽음 상태 변경
+    private Map<String, Integer> unReadMembers; // 안읽은 사람 수가 바뀐 채팅 id와 새 안읽은 사람 수
+    private List<Long> exitUserIds; // 채팅방을 나간 회원 id
+}
@@ -0,0 +1,21 @@
+package com.familring.familyservice.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 채팅방 구성원 정보 (v2 클라이언트가 구독 시 한 번 조회)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomRosterResponse {
+    private Long roomId; // 채팅 방의 id == familyId
+    private int familyCount; // 가족 구성원 수
+    private List<UserInfoResponse> members; // 구성원 정보
+    private boolean frameBatching; // 묶음 경로(/room/{roomId}/batch) 구독 시 프레임을 모아서 전송하는지 여부
+    private long batchWindowMs; // 프레임을 모으는 시간
+}
@@ -0,0 +1,20 @@
+package com.familring.familyservice.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+// 투표 현재 상태 (변경분 동기화용)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoteStateResponse {
+    private String voteId; // 투표 Id
+    private Map<String, Integer> voteResult; // 항목별 집계
+    private int participants; // 참여 인원
+    private boolean completed; // 투표 완료 여부
+}
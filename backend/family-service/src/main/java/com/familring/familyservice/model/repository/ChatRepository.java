@@ -1,14 +1,47 @@
 package com.familring.familyservice.model.repository;
 
 import com.familring.familyservice.model.dto.chat.Chat;
-import org.springframework.data.domain.Page;
+import com.familring.familyservice.model.dto.chat.MessageType;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ChatRepository extends MongoRepository<Chat, String> {
-    List<Chat> findAllByRoomId(Long roomId);
-    Page<Chat> findByRoomId(Long roomId, Pageable pageable);
-}
+    Slice<Chat> findByRoomId(Long roomId, Pageable pageable);
+
+    // 커서 페이징 - 첫 페이지 (최신 채팅부터)
+    @Query("{ 'roomId': ?0 }")
+    List<Chat> findLatestByRoomId(Long roomId, Pageable pageable);
+
+    // 커서 페이징 - 커서(createdAt, _id) 이전 채팅
+    @Query("{ 'roomId': ?0, '$or': [ { 'createdAt': { '$lt': ?1 } }, { 'createdAt': ?1, '_id': { '$lt': ?2 } } ] }")
+    List<Chat> findBeforeByRoomId(Long roomId, LocalDateTime createdAt, ObjectId chatId, Pageable pageable);
+
+    // 순번부터 채팅 (오래된 순, roomId, seq 인덱스 사용)
+    List<Chat> findByRoomIdAndSeqGreaterThanEqualOrderBySeqAscChatIdAsc(Long roomId, Long seq, Pageable pageable);
 
+    // 검색 색인 백필 - 검색 대상 채팅의 id, 순번, 내용만 조회
+    @Query(value = "{ 'roomId': ?0, 'messageType': { '$in': ?1 } }", fields = "{ 'seq': 1, 'content': 1 }")
+    Stream<Chat> streamByRoomIdAndMessageTypeIn(Long roomId, List<MessageType> messageTypes, Sort sort);
+
+    // 검색 색인 다시 읽기 - 순번 이후 검색 대상 채팅의 id, 순번, 내용만 조회 (roomId, seq 인덱스 사용)
+    @Query(value = "{ 'roomId': ?0, 'messageType': { '$in': ?1 }, 'seq': { '$gt': ?2 } }", fields = "{ 'seq': 1, 'content': 1 }")
+    Stream<Chat> streamByRoomIdAndMessageTypeInAndSeqAfter(Long roomId, List<MessageType> messageTypes, long seq, Sort sort);
+
+    // 채팅 내보내기 - 커서로 batch 단위 조회
+    @Meta(cursorBatchSize = 500)
+    @Query("{ 'roomId': ?0 }")
+    Stream<Chat> streamByRoomId(Long roomId, Sort sort);
+
+    // 채팅방의 마지막 순번 채팅
+    Optional<Chat> findTopByRoomIdOrderBySeqDesc(Long roomId);
+}
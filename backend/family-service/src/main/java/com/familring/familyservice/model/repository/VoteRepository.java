@@ -5,6 +5,6 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.Optional;
 
-public interface VoteRepository extends MongoRepository<Vote, String> {
+public interface VoteRepository extends MongoRepository<Vote, String>, VoteRepositoryCustom {
     Optional<Vote> findByVoteId(String voteId);
 }
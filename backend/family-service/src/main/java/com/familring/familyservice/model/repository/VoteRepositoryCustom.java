@@ -0,0 +1,10 @@
+package com.familring.familyservice.model.repository;
+
+import com.familring.familyservice.model.dto.chat.Vote;
+
+import java.util.Optional;
+
+public interface VoteRepositoryCustom {
+    // 투표 참여 (미참여자만) + 선택지 집계 + 완료 처리를 한 번의 조건부 update로 수행하고 update 이후의 투표 반환
+    Optional<Vote> participate(String voteId, Long participantId, String voteResponse);
+}
@@ -0,0 +1,59 @@
+package com.familring.familyservice.model.repository;
+
+import com.familring.familyservice.model.dto.chat.Vote;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ObjectOperators;
+import org.springframework.data.mongodb.core.aggregation.SetOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class VoteRepositoryCustomImpl implements VoteRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<Vote> participate(String voteId, Long participantId, String voteResponse) {
+        String choiceField = "choices." + participantId;
+
+        // 아직 참여하지 않은 경우에만 update
+        Query query = Query.query(Criteria.where("voteId").is(voteId).and(choiceField).exists(false));
+
+        AggregationUpdate update = AggregationUpdate.from(List.<AggregationOperation>of(
+                // 1. 선택 저장
+                SetOperation.set(choiceField).toValue(voteResponse),
+                // 2. 선택지 집계를 choices 에서 다시 계산 (집계가 비어 있는 기존 투표도 정확한 값으로 맞춰짐)
+                context -> new Document("$set", new Document("voteResult", countChoicesByOption())),
+                // 3. 참여 인원이 가족 구성원 수에 도달하면 완료 처리
+                SetOperation.set("isCompleted").toValue(ComparisonOperators.Gte
+                        .valueOf(ArrayOperators.Size.lengthOfArray(ObjectOperators.ObjectToArray.valueOfToArray("choices")))
+                        .greaterThanEqualTo("familyCount"))));
+
+        Vote vote = mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Vote.class);
+        return Optional.ofNullable(vote);
+    }
+
+    // { 선택지: choices 에서 그 선택지를 고른 사람 수 }
+    private Document countChoicesByOption() {
+        Document choices = new Document("$objectToArray", "$choices");
+        Document options = new Document("$setUnion", List.of(
+                new Document("$map", new Document("input", choices).append("as", "choice").append("in", "$$choice.v"))));
+        Document count = new Document("$size", new Document("$filter", new Document("input", choices)
+                .append("as", "choice")
+                .append("cond", new Document("$eq", List.of("$$choice.v", "$$option")))));
+
+        return new Document("$arrayToObject", new Document("$map", new Document("input", options)
+                .append("as", "option")
+                .append("in", new Document("k", "$$option").append("v", count))));
+    }
+}
@@ -0,0 +1,59 @@
+package com.familring.familyservice.service.chat;
+
+import com.familring.familyservice.config.websocket.RoomBroadcaster;
+import com.familring.familyservice.model.dto.response.ChatResponse;
+import com.familring.familyservice.model.dto.response.LeanChatResponse;
+import com.familring.familyservice.model.dto.response.ReadStatusResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+// 채팅방 브로드캐스트 payload 버전 관리
+// v1: 기존 Android 클라이언트용 전체 ChatResponse (/room/{roomId}, /room/{roomId}/readStatus)
+// v2: 발신자 id, 바뀐 투표 집계만 담은 LeanChatResponse (/room/{roomId}/v2, /room/{roomId}/v2/readStatus)
+// familring.chat.payload.versions 로 전송할 버전 선택 (기본 1, v2 클라이언트는 1,2 로 설정해 opt-in, 기존 클라이언트가 모두 업데이트되면 2만 사용)
+@Service
+@Log4j2
+public class ChatBroadcastService {
+
+    public static final int LEGACY_VERSION = 1;
+    public static final int LEAN_VERSION = 2;
+
+    private final RoomBroadcaster roomBroadcaster;
+    private final Set<Integer> versions;
+
+    public ChatBroadcastService(RoomBroadcaster roomBroadcaster,
+                                @Value("${familring.chat.payload.versions:1}") Set<Integer> versions) {
+        this.roomBroadcaster = roomBroadcaster;
+        this.versions = versions;
+        log.info("[ChatBroadcastService] 채팅방 payload 버전={}", versions);
+    }
+
+    public void broadcastChat(Long roomId, ChatResponse chatResponse) {
+        if (versions.contains(LEGACY_VERSION)) {
+            roomBroadcaster.broadcast(roomId, "/room/" + roomId, chatResponse);
+        }
+        if (versions.contains(LEAN_VERSION)) {
+            roomBroadcaster.broadcast(roomId, "/room/" + roomId + "/v2", LeanChatResponse.from(chatResponse));
+        }
+    }
+
+    public void broadcastReadStatus(Long roomId, List<String> messages, ReadStatusResponse readStatus) {
+        if (versions.contains(LEGACY_VERSION)) {
+            for (String message : messages) {
+                roomBroadcaster.broadcast(roomId, "/room/" + roomId + "/readStatus", message);
+            }
+        }
+        if (versions.contains(LEAN_VERSION)) {
+            roomBroadcaster.broadcast(roomId, "/room/" + roomId + "/v2/readStatus", readStatus);
+        }
+    }
+
+    public void broadcastError(Long roomId, String message) {
+        // 에러 메시지는 버전과 관계없이 같은 경로로 전송
+        roomBroadcaster.broadcast(roomId, "/room/" + roomId + "/error", message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.familring.familyservice.service.chat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ChatExportService {
+
+    // 채팅방 구성원인지 확인 (내보내기 응답을 시작하기 전에 호출)
+    void checkExportable(Long roomId, Long userId);
+
+    // 채팅방 전체 채팅을 오래된 순으로 JSON Lines 로 출력 - 출력한 채팅 수 반환
+    long exportChat(Long roomId, Long userId, OutputStream outputStream) throws IOException;
+}
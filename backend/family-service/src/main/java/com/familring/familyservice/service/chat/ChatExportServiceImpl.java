@@ -0,0 +1,116 @@
+package com.familring.familyservice.service.chat;
+
+import com.familring.familyservice.model.dto.chat.Chat;
+import com.familring.familyservice.model.dto.chat.MessageType;
+import com.familring.familyservice.model.dto.chat.RoomRoster;
+import com.familring.familyservice.model.dto.response.ChatExportLine;
+import com.familring.familyservice.model.dto.response.UserInfoResponse;
+import com.familring.familyservice.model.repository.ChatRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ChatExportServiceImpl implements ChatExportService {
+
+    // 오래된 순 (room_created_id 인덱스를 역방향으로 사용)
+    private static final Sort EXPORT_SORT = Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("_id"));
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final ChatRepository chatRepository;
+    private final ChatWriteBehindService chatWriteBehindService;
+    private final RoomRosterService roomRosterService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void checkExportable(Long roomId, Long userId) {
+        roomRosterService.checkMember(roomId, userId);
+    }
+
+    @Override
+    public long exportChat(Long roomId, Long userId, OutputStream outputStream) throws IOException {
+        log.info("[exportChat] 채팅 내보내기 시작 roomId={}, userId={}", roomId, userId);
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        // 발신자 정보는 구성원 스냅샷에서 한 번만 조회 (채팅마다 Feign 호출 없음)
+        RoomRoster roster = roomRosterService.getRoster(roomId);
+        ObjectWriter writer = objectMapper.writerFor(ChatExportLine.class);
+        OutputStream out = new BufferedOutputStream(outputStream);
+
+        // 시작 시점에 write-behind 큐에서 저장 중인 채팅은 마지막에 출력 (내보내는 중에 저장되어도 두 번 출력하지 않음)
+        List<Chat> pendingChats = chatWriteBehindService.findPendingByRoomId(roomId).stream()
+                .sorted(Comparator.comparing(Chat::getCreatedAt).thenComparing(Chat::getChatId))
+                .collect(Collectors.toList());
+        Set<String> pendingChatIds = pendingChats.stream().map(Chat::getChatId).collect(Collectors.toSet());
+
+        // Mongo 커서로 한 batch 씩 읽어 바로 출력 (채팅 수와 관계없이 메모리 사용량 일정)
+        long count = 0;
+        try (Stream<Chat> chats = chatRepository.streamByRoomId(roomId, EXPORT_SORT)) {
+            Iterator<Chat> iterator = chats.iterator();
+            while (iterator.hasNext()) {
+                Chat chat = iterator.next();
+                if (pendingChatIds.contains(chat.getChatId())) {
+                    continue;
+                }
+                out.write(writer.writeValueAsBytes(toExportLine(chat, roster)));
+                out.write('\n');
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    out.flush();
+                }
+            }
+        }
+        for (Chat chat : pendingChats) {
+            out.write(writer.writeValueAsBytes(toExportLine(chat, roster)));
+            out.write('\n');
+            count++;
+        }
+        out.flush();
+
+        sample.stop(meterRegistry.timer("familring.chat.export"));
+        meterRegistry.counter("familring.chat.export.chats").increment(count);
+        log.info("[exportChat] 채팅 내보내기 완료 roomId={}, count={}", roomId, count);
+        return count;
+    }
+
+    private ChatExportLine toExportLine(Chat chat, RoomRoster roster) {
+        UserInfoResponse sender = roster.getMember(chat.getSenderId());
+        boolean media = chat.getMessageType() == MessageType.VOICE || chat.getMessageType() == MessageType.PHOTO;
+
+        return ChatExportLine.builder()
+                .chatId(chat.getChatId())
+                .seq(chat.getSeq())
+                .messageType(chat.getMessageType())
+                .senderId(chat.getSenderId())
+                .senderNickname(sender == null ? null : sender.getUserNickname())
+                .content(media ? null : chat.getContent())
+                .mediaUrl(media ? chat.getContent() : null)
+                .createdAt(chat.getCreatedAt())
+                .voteId(emptyToNull(chat.getVoteId()))
+                .responseOfVote(emptyToNull(chat.getResponseOfVote()))
+                .resultOfVote(chat.getResultOfVote() == null || chat.getResultOfVote().isEmpty() ? null : chat.getResultOfVote())
+                .build();
+    }
+
+    private String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
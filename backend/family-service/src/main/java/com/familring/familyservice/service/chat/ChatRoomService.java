@@ -1,13 +1,34 @@
 package com.familring.familyservice.service.chat;
 
+import com.familring.familyservice.model.dto.chat.Chat;
 import com.familring.familyservice.model.dto.response.ChatResponse;
-import org.springframework.data.domain.Page;
+import com.familring.familyservice.model.dto.response.ChatSyncResponse;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.Map;
 
 public interface ChatRoomService {
 
-    Page<ChatResponse> findPagedChatByRoomId(Long roomId, Long userId, int page, int size);
+    Slice<ChatResponse> findPagedChatByRoomId(Long roomId, Long userId, int page, int size);
+
+    // 커서 페이징 - before(chatId) 이전 채팅 size개 조회 (before가 없으면 최신 채팅부터)
+    Slice<ChatResponse> findChatBeforeCursor(Long roomId, Long userId, String before, int size);
+
+    // 채팅 목록을 응답으로 조립 (발신자, 투표 정보, 안읽은 사람 수)
+    List<ChatResponse> toChatResponses(Long roomId, List<Chat> chats);
+
+    // since(순번) 이후 채팅, 투표, 읽음 상태 변경분 조회
+    ChatSyncResponse findChatSince(Long roomId, Long userId, long since, int size);
+
+    // 채팅방 회원별 읽음 위치 조회 (채팅방에 접속 중인 회원은 모두 읽은 것으로 처리)
+    Map<Long, Long> findReadWatermarks(Long roomId);
+
+    // 읽음 위치 기반 안읽은 사람 수 계산
+    int countUnReadMembers(Chat chat, Map<Long, Long> readWatermarks);
+
+    // 최신 채팅 size개의 안읽은 사람 수 (chatId -> 안읽은 사람 수)
+    Map<String, Integer> findUnReadCounts(Long roomId, int size);
 
     void notifyReadStatusUpdate(Long roomId);
 
@@ -1,22 +1,35 @@
 package com.familring.familyservice.service.chat;
 
-import com.familring.familyservice.config.redis.RedisUtil;
+import com.familring.familyservice.config.executor.ChatRoomExecutor;
+import com.familring.familyservice.config.redis.RedisService;
+import com.familring.familyservice.exception.chat.ChatNotFoundException;
+import com.familring.familyservice.exception.chat.InvalidPageSizeException;
 import com.familring.familyservice.exception.chat.VoteNotFoundException;
 import com.familring.familyservice.model.dto.chat.Chat;
 import com.familring.familyservice.model.dto.chat.MessageType;
+import com.familring.familyservice.model.dto.chat.RoomRoster;
 import com.familring.familyservice.model.dto.chat.Vote;
 import com.familring.familyservice.model.dto.response.ChatResponse;
+import com.familring.familyservice.model.dto.response.ChatSyncResponse;
+import com.familring.familyservice.model.dto.response.LeanChatResponse;
 import com.familring.familyservice.model.dto.response.UserInfoResponse;
+import com.familring.familyservice.model.dto.response.VoteStateResponse;
 import com.familring.familyservice.model.repository.ChatRepository;
 import com.familring.familyservice.model.repository.VoteRepository;
 import com.familring.familyservice.service.client.UserServiceFeignClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,29 +37,246 @@ import java.util.stream.Collectors;
 @Log4j2
 public class ChatRoomServiceImpl implements ChatRoomService {
 
+    private static final int SYNC_UNREAD_CHAT_COUNT = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Comparator<Chat> LATEST_FIRST =
+            Comparator.comparing(Chat::getCreatedAt).thenComparing(Chat::getChatId).reversed();
+    private static final Comparator<Chat> SEQ_ORDER = Comparator.comparing(Chat::getSeq).thenComparing(Chat::getChatId);
+
+    private final RedisService redisService;
     private final ChatRepository chatRepository;
     private final VoteRepository voteRepository;
     private final UserServiceFeignClient userServiceFeignClient;
     private final NotificationService notificationService;
+    private final RecentChatBuffer recentChatBuffer;
+    private final ChatWriteBehindService chatWriteBehindService;
+    private final ChatRoomExecutor chatRoomExecutor;
+    private final RoomRosterService roomRosterService;
 
     @Override
-    public Page<ChatResponse> findPagedChatByRoomId(Long roomId, Long userId, int page, int size) {
+    public Slice<ChatResponse> findPagedChatByRoomId(Long roomId, Long userId, int page, int size) {
         log.info("[findPagedChatByRoomId] 채팅 찾기 roomId={}, userId={}, page={}, size={}", roomId, userId, page, size);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Chat> chatPage = chatRepository.findByRoomId(roomId, pageable);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt", "chatId"));
+
+        // 첫 페이지는 최근 채팅 버퍼에서 응답
+        if (page == 0) {
+            Optional<RecentChatBuffer.RecentChats> recentChats = recentChatBuffer.findLatest(roomId, size);
+            if (recentChats.isPresent()) {
+                return new SliceImpl<>(toBufferedChatResponseList(roomId, recentChats.get()), pageable, recentChats.get().isHasNext());
+            }
+            recentChatBuffer.beginSeed(roomId);
+        }
+
+        // Slice 조회로 채팅방 전체 count 쿼리 생략
+        Slice<Chat> chatSlice = chatRepository.findByRoomId(roomId, pageable);
+        List<Chat> chats = chatSlice.getContent();
+        boolean hasNext = chatSlice.hasNext();
+
+        // 첫 페이지는 아직 저장되지 않은 채팅도 포함 (이후 페이지는 offset 기준이라 저장 중인 채팅 수만큼 겹칠 수 있음)
+        if (page == 0) {
+            chats = mergePending(roomId, chats, null, size + 1);
+            hasNext = hasNext || chats.size() > size;
+            if (chats.size() > size) {
+                chats = chats.subList(0, size);
+            }
+        }
+
+        List<ChatResponse> responseList = toChatResponseList(roomId, chats);
+        if (page == 0) {
+            seedRecentChatBuffer(roomId, chats, responseList, hasNext);
+        }
+
+        return new SliceImpl<>(responseList, pageable, hasNext);
+    }
+
+    @Override
+    public Slice<ChatResponse> findChatBeforeCursor(Long roomId, Long userId, String before, int size) {
+        log.info("[findChatBeforeCursor] 채팅 찾기 roomId={}, userId={}, before={}, size={}", roomId, userId, before, size);
+        validatePageSize(size);
+
+        boolean latest = before == null || before.isBlank();
+
+        // 첫 페이지는 최근 채팅 버퍼에서 응답
+        if (latest) {
+            Optional<RecentChatBuffer.RecentChats> recentChats = recentChatBuffer.findLatest(roomId, size);
+            if (recentChats.isPresent()) {
+                return new SliceImpl<>(toBufferedChatResponseList(roomId, recentChats.get()), PageRequest.of(0, size), recentChats.get().isHasNext());
+            }
+            recentChatBuffer.beginSeed(roomId);
+        }
+
+        // 다음 페이지 유무 확인을 위해 size + 1개 조회 (roomId, createdAt, _id 인덱스 사용)
+        Pageable pageable = PageRequest.of(0, size + 1, Sort.by(Sort.Direction.DESC, "createdAt", "chatId"));
+        List<Chat> chats;
+        Chat cursor = null;
+        if (latest) {
+            chats = chatRepository.findLatestByRoomId(roomId, pageable);
+        } else {
+            if (!ObjectId.isValid(before)) {
+                throw new ChatNotFoundException();
+            }
+            cursor = chatWriteBehindService.findPendingById(roomId, before)
+                    .or(() -> chatRepository.findById(before).filter(chat -> chat.getRoomId().equals(roomId)))
+                    .orElseThrow(() -> new ChatNotFoundException());
+            chats = chatRepository.findBeforeByRoomId(roomId, cursor.getCreatedAt(), new ObjectId(before), pageable);
+        }
+        chats = mergePending(roomId, chats, cursor, size + 1);
+
+        boolean hasNext = chats.size() > size;
+        if (hasNext) {
+            chats = chats.subList(0, size);
+        }
+
+        List<ChatResponse> responseList = toChatResponseList(roomId, chats);
+        if (latest) {
+            seedRecentChatBuffer(roomId, chats, responseList, hasNext);
+        }
+
+        return new SliceImpl<>(responseList, PageRequest.of(0, size), hasNext);
+    }
+
+    @Override
+    public List<ChatResponse> toChatResponses(Long roomId, List<Chat> chats) {
+        return toChatResponseList(roomId, chats);
+    }
+
+    @Override
+    public ChatSyncResponse findChatSince(Long roomId, Long userId, long since, int size) {
+        log.info("[findChatSince] 변경분 조회 roomId={}, userId={}, since={}, size={}", roomId, userId, since, size);
+        validatePageSize(size);
+        // 채팅 내용, 투표 상태, 읽음 상태를 모두 응답하므로 채팅방 구성원인지 먼저 확인
+        roomRosterService.checkMember(roomId, userId);
+
+        // 1. since 순번부터 채팅 size + 1개 조회 (roomId, seq 인덱스 사용)
+        // 순번이 중복된 채팅을 놓치지 않도록 since 와 같은 순번도 다시 응답 (클라이언트는 chatId 로 중복 제거)
+        List<Chat> chats = chatRepository.findByRoomIdAndSeqGreaterThanEqualOrderBySeqAscChatIdAsc(roomId, since, PageRequest.of(0, size + 1));
+        chats = mergePendingSince(roomId, chats, since, size + 1);
+        boolean hasMore = chats.size() > size;
+        if (hasMore) {
+            chats = chats.subList(0, size);
+        }
+
+        // 2. 변경분 채팅이 가리키는 투표의 현재 상태
+        List<String> voteIds = chats.stream()
+                .filter(chat -> isVoteMessage(chat.getMessageType()))
+                .map(Chat::getVoteId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, Vote> votes = voteIds.isEmpty() ? Map.of() :
+                voteRepository.findAllById(voteIds).stream()
+                        .collect(Collectors.toMap(Vote::getVoteId, Function.identity()));
+
+        // 3. 발신자 정보 없이 v2 응답으로 조립 (회원 정보는 구성원 조회로 한 번만 받음)
+        Map<Long, Long> readWatermarks = findReadWatermarks(roomId);
+        List<LeanChatResponse> chatList = chats.stream()
+                .map(chat -> LeanChatResponse.from(ChatResponse.builder()
+                        .chatId(chat.getChatId())
+                        .roomId(chat.getRoomId())
+                        .seq(chat.getSeq())
+                        .messageType(chat.getMessageType())
+                        .senderId(chat.getSenderId())
+                        .content(chat.getContent())
+                        .createdAt(chat.getCreatedAt())
+                        .vote(votes.get(chat.getVoteId()))
+                        .responseOfVote(chat.getResponseOfVote())
+                        .resultOfVote(chat.getResultOfVote())
+                        .unReadMembers(countUnReadMembers(chat, readWatermarks))
+                        .build()))
+                .collect(Collectors.toList());
+
+        List<VoteStateResponse> voteStates = votes.values().stream()
+                .map(vote -> VoteStateResponse.builder()
+                        .voteId(vote.getVoteId())
+                        .voteResult(vote.countVoteResult())
+                        .participants(vote.getChoices().size())
+                        .completed(vote.isCompleted())
+                        .build())
+                .collect(Collectors.toList());
+
+        // 4. since 이전 채팅의 읽음 상태 변경도 반영되도록 최신 채팅의 안읽은 사람 수 포함
+        Map<String, Integer> unReadMembers = findUnReadCounts(roomId, SYNC_UNREAD_CHAT_COUNT);
+        chatList.forEach(chat -> unReadMembers.put(chat.getChatId(), chat.getUnReadMembers()));
+
+        return ChatSyncResponse.builder()
+                .roomId(roomId)
+                .lastSeq(chats.isEmpty() ? since : chats.get(chats.size() - 1).getSeq())
+                .hasMore(hasMore)
+                .chats(chatList)
+                .votes(voteStates)
+                .unReadMembers(unReadMembers)
+                .build();
+    }
+
+    @Override
+    public Map<Long, Long> findReadWatermarks(Long roomId) {
+        return redisService.findReadWatermarks(roomId);
+    }
+
+    @Override
+    public int countUnReadMembers(Chat chat, Map<Long, Long> readWatermarks) {
+        long position = chat.toReadPosition();
+
+        // 발신자는 항상 읽은 것으로 처리
+        int readMembers = readWatermarks.containsKey(chat.getSenderId()) ? 0 : 1;
+        for (Map.Entry<Long, Long> entry : readWatermarks.entrySet()) {
+            if (entry.getKey().equals(chat.getSenderId()) || entry.getValue() >= position) {
+                readMembers++;
+            }
+        }
+
+        return Math.max(chat.getFamilyCount() - readMembers, 0);
+    }
+
+    @Override
+    public Map<String, Integer> findUnReadCounts(Long roomId, int size) {
+        // 최근 채팅 버퍼가 있으면 버퍼의 채팅으로, 없으면 Mongo 에서 최신 채팅 조회
+        List<Chat> chats = recentChatBuffer.findLatestChats(roomId, size)
+                .orElseGet(() -> mergePending(roomId, chatRepository.findLatestByRoomId(roomId,
+                        PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt", "chatId"))), null, size));
+
+        Map<Long, Long> readWatermarks = findReadWatermarks(roomId);
+        Map<String, Integer> unReadCounts = new LinkedHashMap<>();
+        for (Chat chat : chats) {
+            unReadCounts.put(chat.getChatId(), countUnReadMembers(chat, readWatermarks));
+        }
+        return unReadCounts;
+    }
+
+    private List<ChatResponse> toChatResponseList(Long roomId, List<Chat> chats) {
+        // 1. 페이지 전체에 대해 읽음 위치는 한 번만 조회
+        Map<Long, Long> readWatermarks = findReadWatermarks(roomId);
+
+        // 2. 발신자 정보를 한 번의 user-service 호출로 조회
+        List<Long> senderIds = chats.stream()
+                .map(Chat::getSenderId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, UserInfoResponse> senders = senderIds.isEmpty() ? Map.of() :
+                userServiceFeignClient.getAllUserProfile(senderIds).getData().stream()
+                        .collect(Collectors.toMap(UserInfoResponse::getUserId, Function.identity(), (a, b) -> a));
+
+        // 3. 투표 정보를 한 번의 votes 조회로 가져오기
+        List<String> voteIds = chats.stream()
+                .filter(chat -> isVoteMessage(chat.getMessageType()))
+                .map(Chat::getVoteId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, Vote> votes = voteIds.isEmpty() ? Map.of() :
+                voteRepository.findAllById(voteIds).stream()
+                        .collect(Collectors.toMap(Vote::getVoteId, Function.identity()));
 
-        List<ChatResponse> responseList = chatPage.getContent().stream().map(chat -> {
-            UserInfoResponse user = userServiceFeignClient.getUser(chat.getSenderId()).getData();
-            int unReadMembers = (int) (chat.getFamilyCount() - chat.getReadByUserIds().size());
-            unReadMembers = Math.max(unReadMembers, 0);
+        // 4. 메모리의 Map으로 응답 조립
+        return chats.stream().map(chat -> {
+            int unReadMembers = countUnReadMembers(chat, readWatermarks);
 
             ChatResponse chatResponse = new ChatResponse(
                     chat.getChatId(),
                     chat.getRoomId(),
+                    chat.getSeq(),
                     chat.getMessageType(),
                     chat.getSenderId(),
-                    user,
+                    senders.get(chat.getSenderId()),
                     chat.getContent(),
                     chat.getCreatedAt(),
                     null,
@@ -56,16 +286,95 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                     unReadMembers
             );
 
-            if (chat.getMessageType().equals(MessageType.VOTE) ||
-                    chat.getMessageType().equals(MessageType.VOTE_RESPONSE) ||
-                    chat.getMessageType().equals(MessageType.VOTE_RESULT)) {
-                Vote vote = voteRepository.findByVoteId(chat.getVoteId()).orElseThrow(VoteNotFoundException::new);
+            if (isVoteMessage(chat.getMessageType())) {
+                Vote vote = votes.get(chat.getVoteId());
+                if (vote == null) {
+                    throw new VoteNotFoundException();
+                }
                 chatResponse.setVote(vote);
             }
             return chatResponse;
         }).collect(Collectors.toList());
+    }
+
+    private List<ChatResponse> toBufferedChatResponseList(Long roomId, RecentChatBuffer.RecentChats recentChats) {
+        // 버퍼의 응답은 공유 객체이므로 읽지 않은 사람 수만 다시 계산한 복사본으로 응답
+        Map<Long, Long> readWatermarks = findReadWatermarks(roomId);
+        // 발신자 정보는 버퍼에 넣을 때 값으로 고정되므로 구성원 스냅샷(max-age 로 갱신)에서 다시 조회
+        RoomRoster roster = roomRosterService.getRoster(roomId);
+
+        return recentChats.getChats().stream()
+                .map(bufferedChat -> {
+                    ChatResponse response = bufferedChat.getResponse();
+                    UserInfoResponse sender = roster.getMember(response.getSenderId());
+                    return response.toBuilder()
+                            .sender(sender == null ? response.getSender() : sender)
+                            .unReadMembers(countUnReadMembers(bufferedChat.getChat(), readWatermarks))
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    // 전송 경로의 버퍼 추가와 순서가 섞이지 않도록 채팅방 lane 에서 버퍼 채우기
+    private void seedRecentChatBuffer(Long roomId, List<Chat> chats, List<ChatResponse> responseList, boolean hasNext) {
+        List<Chat> seedChats = List.copyOf(chats);
+        try {
+            chatRoomExecutor.execute(roomId, () -> recentChatBuffer.seed(roomId, seedChats, responseList, hasNext));
+        } catch (RejectedExecutionException e) {
+            // 채우기 중 표시만 남지 않도록 제거 (다음 조회에서 다시 채움)
+            recentChatBuffer.evict(roomId);
+        }
+    }
+
+    // 최신순 조회 결과에 write-behind 큐에서 아직 저장되지 않은 채팅(cursor 이전)을 합쳐 limit개까지 반환
+    private List<Chat> mergePending(Long roomId, List<Chat> chats, Chat cursor, int limit) {
+        List<Chat> pendingChats = chatWriteBehindService.findPendingByRoomId(roomId);
+        if (pendingChats.isEmpty()) {
+            return chats;
+        }
+
+        Map<String, Chat> merged = new LinkedHashMap<>();
+        chats.forEach(chat -> merged.put(chat.getChatId(), chat));
+        pendingChats.stream()
+                .filter(chat -> cursor == null || LATEST_FIRST.compare(chat, cursor) > 0)
+                .forEach(chat -> merged.putIfAbsent(chat.getChatId(), chat));
+
+        return merged.values().stream()
+                .sorted(LATEST_FIRST)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    // 순번순 조회 결과에 write-behind 큐에서 아직 저장되지 않은 채팅(since 부터)을 합쳐 limit개까지 반환
+    private List<Chat> mergePendingSince(Long roomId, List<Chat> chats, long since, int limit) {
+        List<Chat> pendingChats = chatWriteBehindService.findPendingByRoomId(roomId);
+        if (pendingChats.isEmpty()) {
+            return chats;
+        }
+
+        Map<String, Chat> merged = new LinkedHashMap<>();
+        chats.forEach(chat -> merged.put(chat.getChatId(), chat));
+        pendingChats.stream()
+                .filter(chat -> chat.getSeq() != null && chat.getSeq() >= since)
+                .forEach(chat -> merged.putIfAbsent(chat.getChatId(), chat));
+
+        return merged.values().stream()
+                .sorted(SEQ_ORDER)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private void validatePageSize(int size) {
+        // size + 1개를 조회하므로 0 이하나 너무 큰 값은 조회 전에 거절
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidPageSizeException();
+        }
+    }
 
-        return new PageImpl<>(responseList, pageable, chatPage.getTotalElements());
+    private boolean isVoteMessage(MessageType messageType) {
+        return messageType.equals(MessageType.VOTE) ||
+                messageType.equals(MessageType.VOTE_RESPONSE) ||
+                messageType.equals(MessageType.VOTE_RESULT);
     }
 
     @Override
@@ -0,0 +1,37 @@
+package com.familring.familyservice.service.chat;
+
+import com.familring.familyservice.config.redis.RedisService;
+import com.familring.familyservice.model.dto.chat.Chat;
+import com.familring.familyservice.model.repository.ChatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+// 채팅방별 순번 발급 (Redis INCR)
+// 전송은 채팅방 lane 에서 순서대로 실행되므로 발급 순서와 저장 순서가 같음
+// Redis key 가 없으면 Mongo 에 저장된 마지막 순번과 write-behind 큐에서 저장 중인 마지막 순번 중 큰 값으로 초기화한 뒤 이어서 발급
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ChatSequenceService {
+
+    private final RedisService redisService;
+    private final ChatRepository chatRepository;
+    private final ChatWriteBehindService chatWriteBehindService;
+
+    public long next(Long roomId) {
+        Long seq = redisService.incrementChatSeq(roomId);
+        if (seq != null) {
+            return seq;
+        }
+
+        long lastSeq = Math.max(chatRepository.findTopByRoomIdOrderBySeqDesc(roomId)
+                        .map(Chat::getSeq)
+                        .orElse(0L),
+                chatWriteBehindService.findPendingLastSeq(roomId));
+        log.info("[next] 채팅방 순번 초기화 roomId={}, lastSeq={}", roomId, lastSeq);
+        redisService.initChatSeq(roomId, lastSeq);
+
+        return redisService.incrementChatSeq(roomId);
+    }
+}
@@ -13,4 +13,7 @@ public interface ChatService {
 
     // 채팅 응답 찾기
     ChatResponse findChat(Chat chat, Long userId);
+
+    // 전송한 채팅을 최근 채팅 버퍼, 검색 색인에 반영 (채팅방 lane 에서 호출)
+    void recordChat(Chat chat, ChatResponse response);
 }
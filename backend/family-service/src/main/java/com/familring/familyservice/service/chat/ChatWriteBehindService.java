@@ -0,0 +1,292 @@
+package com.familring.familyservice.service.chat;
+
+import com.familring.familyservice.model.dto.chat.Chat;
+import com.familring.familyservice.model.repository.ChatRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 채팅 저장 파이프라인
+// write-behind 모드: 채팅 id를 먼저 발급해 큐에 넣고, 별도 스레드가 batch-size 또는 flush-interval-ms 기준으로 insertMany 저장
+// 기본 모드: 기존처럼 동기 저장
+// 저장에 실패한 채팅은 버리지 않고 retry-backoff-ms 후 다시 저장하며, 저장될 때까지 findPending* 으로 조회 가능
+// Mongo 에서 채팅을 읽는 경로(커서 조회, 변경분 조회, 순번 초기화, 검색, 내보내기)는 아직 저장되지 않은 채팅을 함께 읽어야 함
+@Service
+@Log4j2
+public class ChatWriteBehindService {
+
+    // 큐가 가득 찼을 때의 처리 방식
+    public enum OverflowPolicy {
+        SYNC,   // 호출한 스레드에서 바로 저장 (유실 없음)
+        BLOCK   // 큐에 자리가 날 때까지 대기
+    }
+
+    private final ChatRepository chatRepository;
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final int maxRetries;
+    private final OverflowPolicy overflowPolicy;
+    private final long retryBackoffMs;
+    private final BlockingQueue<Chat> queue;
+
+    // 저장이 끝나지 않은 채팅 (큐 대기, 저장 중, 재시도 대기) - 채팅방 id -> (채팅 id -> 채팅)
+    private final Map<Long, Map<String, Chat>> pending = new ConcurrentHashMap<>();
+    private final Queue<Chat> retries = new ConcurrentLinkedQueue<>();
+    private volatile long retryAt;
+
+    private Timer flushTimer;
+    private Counter flushedCounter;
+    private Counter failedCounter;
+    private Thread flusher;
+    private volatile boolean running;
+
+    public ChatWriteBehindService(ChatRepository chatRepository, MongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+                                  @Value("${familring.chat.write-behind.enabled:false}") boolean enabled,
+                                  @Value("${familring.chat.write-behind.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${familring.chat.write-behind.batch-size:100}") int batchSize,
+                                  @Value("${familring.chat.write-behind.flush-interval-ms:50}") long flushIntervalMs,
+                                  @Value("${familring.chat.write-behind.max-retries:3}") int maxRetries,
+                                  @Value("${familring.chat.write-behind.overflow:SYNC}") OverflowPolicy overflowPolicy,
+                                  @Value("${familring.chat.write-behind.retry-backoff-ms:1000}") long retryBackoffMs) {
+        this.chatRepository = chatRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxRetries = maxRetries;
+        this.overflowPolicy = overflowPolicy;
+        this.retryBackoffMs = retryBackoffMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        Gauge.builder("familring.chat.write-behind.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("familring.chat.write-behind.pending", pending,
+                rooms -> rooms.values().stream().mapToInt(Map::size).sum()).register(meterRegistry);
+        Gauge.builder("familring.chat.write-behind.retry.depth", retries, Queue::size).register(meterRegistry);
+        flushTimer = Timer.builder("familring.chat.write-behind.flush").register(meterRegistry);
+        flushedCounter = Counter.builder("familring.chat.write-behind.flushed").register(meterRegistry);
+        failedCounter = Counter.builder("familring.chat.write-behind.failed").register(meterRegistry);
+
+        running = true;
+        flusher = new Thread(this::flushLoop, "chat-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("[start] 채팅 write-behind 시작 batchSize={}, flushIntervalMs={}, overflow={}", batchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    public Chat save(Chat chat) {
+        // 종료가 시작된 뒤에는 큐에 넣어도 저장되지 않으므로 바로 저장
+        if (!enabled || !running) {
+            return chatRepository.save(chat);
+        }
+
+        // 브로드캐스트 전에 id를 먼저 발급
+        if (chat.getChatId() == null) {
+            chat.setChatId(new ObjectId().toHexString());
+        }
+
+        // 큐에 넣기 전에 등록해야 저장 직후 제거와 순서가 뒤바뀌지 않음
+        addPending(chat);
+        if (queue.offer(chat)) {
+            // 넣는 사이 종료가 시작돼 남은 채팅 저장이 이미 끝났을 수 있으므로, 아직 큐에 있으면 직접 저장
+            if (!running && queue.remove(chat)) {
+                return saveNow(chat);
+            }
+            return chat;
+        }
+
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                queue.put(chat);
+                return chat;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        log.warn("[save] write-behind 큐가 가득 차서 동기 저장 chatId={}", chat.getChatId());
+        return saveNow(chat);
+    }
+
+    private Chat saveNow(Chat chat) {
+        try {
+            return chatRepository.save(chat);
+        } finally {
+            removePending(chat);
+        }
+    }
+
+    // 채팅방의 저장되지 않은 채팅 (순서 없음)
+    public List<Chat> findPendingByRoomId(Long roomId) {
+        Map<String, Chat> chats = pending.get(roomId);
+        return chats == null ? List.of() : List.copyOf(chats.values());
+    }
+
+    // 저장되지 않은 채팅 id 조회
+    public Optional<Chat> findPendingById(Long roomId, String chatId) {
+        Map<String, Chat> chats = pending.get(roomId);
+        return chats == null ? Optional.empty() : Optional.ofNullable(chats.get(chatId));
+    }
+
+    // 채팅방의 저장되지 않은 채팅 중 마지막 순번 (없으면 0)
+    public long findPendingLastSeq(Long roomId) {
+        return findPendingByRoomId(roomId).stream()
+                .map(Chat::getSeq)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(0L);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+
+        // 종료 시 flusher 가 진행 중인 batch 를 마치도록 기다린 후 큐와 재시도 대기에 남은 채팅을 모두 저장
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+
+        List<Chat> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        drainRetries(remaining, Integer.MAX_VALUE);
+        int total = remaining.size();
+        for (int attempt = 1; attempt <= maxRetries && !remaining.isEmpty(); attempt++) {
+            flush(remaining);
+            remaining = new ArrayList<>();
+            drainRetries(remaining, Integer.MAX_VALUE);
+        }
+
+        if (!remaining.isEmpty()) {
+            log.error("[stop] 채팅 write-behind 종료, 저장하지 못한 채팅 {}개 chatIds={}", remaining.size(),
+                    remaining.stream().map(Chat::getChatId).collect(Collectors.toList()));
+        }
+        log.info("[stop] 채팅 write-behind 종료, 남은 채팅 {}개 저장", total - remaining.size());
+    }
+
+    private void flushLoop() {
+        List<Chat> batch = new ArrayList<>(batchSize);
+        while (running) {
+            // 저장에 실패했던 채팅은 retry-backoff-ms 가 지난 뒤 먼저 다시 저장
+            if (!retries.isEmpty() && System.currentTimeMillis() >= retryAt) {
+                List<Chat> retryBatch = new ArrayList<>(batchSize);
+                drainRetries(retryBatch, batchSize);
+                flush(retryBatch);
+            }
+
+            try {
+                Chat first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                // batch-size 만큼 모이거나 flush-interval-ms 가 지나면 저장
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    Chat next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+    }
+
+    private void flush(List<Chat> batch) {
+        for (int attempt = 1; attempt <= maxRetries; attempt++) {
+            try {
+                flushTimer.record(() -> mongoTemplate.insert(batch, Chat.class));
+                flushedCounter.increment(batch.size());
+                batch.forEach(this::removePending);
+                return;
+            } catch (Exception e) {
+                log.warn("[flush] 채팅 일괄 저장 실패 attempt={}, size={}", attempt, batch.size(), e);
+            }
+        }
+
+        // 일부만 저장된 경우를 고려해 id 기준 upsert로 하나씩 저장
+        for (Chat chat : batch) {
+            try {
+                chatRepository.save(chat);
+                flushedCounter.increment();
+                removePending(chat);
+            } catch (Exception e) {
+                // 저장될 때까지 재시도 (저장되지 않은 채팅으로 계속 조회됨)
+                failedCounter.increment();
+                log.error("[flush] 채팅 저장 실패, {}ms 후 재시도 chat={}", retryBackoffMs, chat, e);
+                retries.add(chat);
+                retryAt = System.currentTimeMillis() + retryBackoffMs;
+            }
+        }
+    }
+
+    private void drainRetries(List<Chat> batch, int maxSize) {
+        Chat chat;
+        while (batch.size() < maxSize && (chat = retries.poll()) != null) {
+            batch.add(chat);
+        }
+    }
+
+    private void addPending(Chat chat) {
+        pending.compute(chat.getRoomId(), (roomId, chats) -> {
+            Map<String, Chat> roomChats = chats == null ? new ConcurrentHashMap<>() : chats;
+            roomChats.put(chat.getChatId(), chat);
+            return roomChats;
+        });
+    }
+
+    private void removePending(Chat chat) {
+        pending.computeIfPresent(chat.getRoomId(), (roomId, chats) -> {
+            chats.remove(chat.getChatId());
+            return chats.isEmpty() ? null : chats;
+        });
+    }
+}
@@ -18,7 +18,7 @@ public class NotificationService {
     }
 
     public void notifyRoomExit(Long roomId, Long userId) {
-        eventPublisher.publishEvent(new NotificationEvent(this, roomId, userId + "님이 채팅방을 나갔습니다.", "read"));
+        eventPublisher.publishEvent(new NotificationEvent(this, roomId, userId + "님이 채팅방을 나갔습니다.", "read", userId));
     }
 
     public void notifyVoteConflict(Long roomId, Long userId) {
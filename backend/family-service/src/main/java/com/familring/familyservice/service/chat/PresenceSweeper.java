@@ -0,0 +1,65 @@
+package com.familring.familyservice.service.chat;
+
+import com.familring.familyservice.config.executor.ChatRoomExecutor;
+import com.familring.familyservice.config.redis.RedisService;
+import com.familring.familyservice.model.dto.chat.ExpiredPresence;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// DISCONNECT 없이 끊긴 세션(앱 강제 종료, 네트워크 단절, 인스턴스 종료)의 접속 정보 정리
+// heartbeat 가 ttl-ms 동안 없으면 퇴장 처리하고, 마지막 heartbeat 시간까지 읽은 것으로 읽음 위치 갱신
+// DISCONNECT 와 같이 채팅방 lane 에서 퇴장 알림(읽음 상태 전송)을 보내고, 채팅방이 비면 구성원 스냅샷 제거
+@Component
+@Log4j2
+public class PresenceSweeper {
+
+    private final RedisService redisService;
+    private final ChatRoomService chatRoomService;
+    private final RoomRosterService roomRosterService;
+    private final ChatRoomExecutor chatRoomExecutor;
+    private final Counter expiredCounter;
+
+    public PresenceSweeper(RedisService redisService, ChatRoomService chatRoomService, RoomRosterService roomRosterService,
+                           ChatRoomExecutor chatRoomExecutor, MeterRegistry meterRegistry) {
+        this.redisService = redisService;
+        this.chatRoomService = chatRoomService;
+        this.roomRosterService = roomRosterService;
+        this.chatRoomExecutor = chatRoomExecutor;
+        this.expiredCounter = Counter.builder("familring.chat.presence.expired").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${familring.chat.presence.sweep-interval-ms:10000}")
+    public void sweep() {
+        List<ExpiredPresence> expiredPresences;
+        try {
+            expiredPresences = redisService.sweepPresence(System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("[sweep] 접속 정보 정리 실패", e);
+            return;
+        }
+
+        for (ExpiredPresence expired : expiredPresences) {
+            expiredCounter.increment(expired.getUserIds().size());
+            log.info("[sweep] heartbeat 가 끊긴 세션 정리 roomId={}, userIds={}, remaining={}",
+                    expired.getRoomId(), expired.getUserIds(), expired.getRemainingCount());
+            chatRoomExecutor.executeOrRun(expired.getRoomId(), () -> exitChatRoom(expired));
+        }
+    }
+
+    private void exitChatRoom(ExpiredPresence expired) {
+        // 마지막 접속 세션까지 만료된 경우 채팅방 구성원 스냅샷 제거
+        if (expired.getRemainingCount() == 0) {
+            roomRosterService.evictRoster(expired.getRoomId());
+        }
+
+        // 읽음 상태 업데이트 알림 전송
+        for (Long userId : expired.getUserIds()) {
+            chatRoomService.notifyRoomExit(expired.getRoomId(), userId);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.familring.familyservice.service.chat;
+
+import com.familring.familyservice.config.executor.ChatRoomExecutor;
+import com.familring.familyservice.model.dto.response.ReadStatusResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 채팅방별 읽음 상태 알림 모으기
+// 전송, 투표, 입장, 퇴장마다 바로 보내지 않고 window-ms 동안의 변경을 모아 한 번만 전송
+// 전송 시 최신 채팅의 안읽은 사람 수를 다시 계산해 이전 전송과 달라진 채팅만 담음
+@Component
+@Log4j2
+public class ReadStatusCoalescer {
+
+    private static final String READ_STATUS_MESSAGE = "UPDATE_READ_STATUS";
+
+    private final ChatRoomService chatRoomService;
+    private final ChatBroadcastService chatBroadcastService;
+    private final ChatRoomExecutor chatRoomExecutor;
+
+    private final long windowMs;
+    private final int chatCount;
+    private final long idleTimeoutMs;
+
+    private final Counter requestCounter;
+    private final Counter flushCounter;
+
+    private final Map<Long, RoomReadState> rooms = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "read-status-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReadStatusCoalescer(ChatRoomService chatRoomService, ChatBroadcastService chatBroadcastService,
+                               ChatRoomExecutor chatRoomExecutor, MeterRegistry meterRegistry,
+                               @Value("${familring.chat.read-status.window-ms:150}") long windowMs,
+                               @Value("${familring.chat.read-status.chat-count:50}") int chatCount,
+                               @Value("${familring.chat.read-status.idle-timeout-ms:600000}") long idleTimeoutMs) {
+        this.chatRoomService = chatRoomService;
+        this.chatBroadcastService = chatBroadcastService;
+        this.chatRoomExecutor = chatRoomExecutor;
+        this.windowMs = windowMs;
+        this.chatCount = chatCount;
+        this.idleTimeoutMs = idleTimeoutMs;
+
+        // 요청 수 대비 전송 수로 묶임 정도 확인
+        this.requestCounter = Counter.builder("familring.chat.read-status.requests").register(meterRegistry);
+        this.flushCounter = Counter.builder("familring.chat.read-status.flushes").register(meterRegistry);
+    }
+
+    // 읽음 상태 변경 요청 (퇴장이면 exitUserId 포함)
+    public void request(Long roomId, Long exitUserId) {
+        requestCounter.increment();
+        RoomReadState state = rooms.computeIfAbsent(roomId, id -> new RoomReadState());
+
+        boolean schedule;
+        synchronized (state) {
+            if (exitUserId != null) {
+                state.exitUserIds.add(exitUserId);
+            } else {
+                state.updated = true;
+            }
+            state.lastRequestedAt = System.currentTimeMillis();
+
+            // window 안의 첫 요청만 전송 예약
+            schedule = !state.scheduled;
+            state.scheduled = true;
+        }
+
+        if (schedule) {
+            scheduleFlush(roomId, state);
+        }
+    }
+
+    private void scheduleFlush(Long roomId, RoomReadState state) {
+        // 같은 채팅방의 전송 작업 이후에 계산되도록 채팅방 lane 에서 실행
+        scheduler.schedule(() -> {
+            try {
+                chatRoomExecutor.execute(roomId, () -> flush(roomId, state));
+            } catch (RejectedExecutionException e) {
+                // lane 이 가득 찬 경우 예약 상태를 유지한 채 다음 window 에 다시 시도
+                scheduleFlush(roomId, state);
+            }
+        }, windowMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void flush(Long roomId, RoomReadState state) {
+        boolean updated;
+        List<Long> exitUserIds;
+        synchronized (state) {
+            updated = state.updated;
+            exitUserIds = new ArrayList<>(state.exitUserIds);
+            state.updated = false;
+            state.exitUserIds.clear();
+            state.scheduled = false;
+        }
+
+        // 이전 전송 이후 안읽은 사람 수가 바뀐 채팅만 전달
+        Map<String, Integer> unReadCounts = chatRoomService.findUnReadCounts(roomId, chatCount);
+        Map<String, Integer> changed = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : unReadCounts.entrySet()) {
+            if (!entry.getValue().equals(state.lastUnReadCounts.get(entry.getKey()))) {
+                changed.put(entry.getKey(), entry.getValue());
+            }
+        }
+        state.lastUnReadCounts = new HashMap<>(unReadCounts);
+
+        // v1 클라이언트에는 기존 메시지 형식 유지 (읽음 상태 변경 한 번 + 퇴장 메시지)
+        List<String> legacyMessages = new ArrayList<>();
+        if (updated || !changed.isEmpty()) {
+            legacyMessages.add(READ_STATUS_MESSAGE);
+        }
+        for (Long exitUserId : exitUserIds) {
+            legacyMessages.add(exitUserId + "님이 채팅방을 나갔습니다.");
+        }
+        if (legacyMessages.isEmpty()) {
+            return;
+        }
+
+        ReadStatusResponse readStatus = ReadStatusResponse.builder()
+                .type("READ")
+                .unReadMembers(changed)
+                .exitUserIds(exitUserIds)
+                .build();
+
+        chatBroadcastService.broadcastReadStatus(roomId, legacyMessages, readStatus);
+        flushCounter.increment();
+        log.debug("[flush] 읽음 상태 전송 roomId={}, changed={}, exitUserIds={}", roomId, changed.size(), exitUserIds);
+    }
+
+    @Scheduled(fixedDelayString = "${familring.chat.read-status.sweep-interval-ms:60000}")
+    public void evictIdleRooms() {
+        long now = System.currentTimeMillis();
+        rooms.entrySet().removeIf(entry -> {
+            RoomReadState state = entry.getValue();
+            synchronized (state) {
+                return !state.scheduled && now - state.lastRequestedAt > idleTimeoutMs;
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private static class RoomReadState {
+        private boolean scheduled;
+        private boolean updated;
+        private final List<Long> exitUserIds = new ArrayList<>();
+        private long lastRequestedAt;
+        // 마지막으로 전송한 채팅별 안읽은 사람 수 (채팅방 lane 에서만 접근)
+        private Map<String, Integer> lastUnReadCounts = new HashMap<>();
+    }
+}
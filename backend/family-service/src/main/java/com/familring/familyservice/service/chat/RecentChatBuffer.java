@@ -0,0 +1,275 @@
+package com.familring.familyservice.service.chat;
+
+import com.familring.familyservice.model.dto.chat.Chat;
+import com.familring.familyservice.model.dto.chat.Vote;
+import com.familring.familyservice.model.dto.response.ChatResponse;
+import com.familring.familyservice.service.family.event.FamilyMemberChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 활성 채팅방별 최근 채팅 N개(발신자, 투표 정보까지 채운 ChatResponse) 버퍼
+// 보관한 응답은 바꾸지 않고(복사본 보관, 투표 갱신 시 교체) 조회 시 복사해 읽지 않은 사람 수, 발신자 정보를 다시 채움
+// 첫 페이지 조회 시 Mongo 결과로 채우고 이후 전송 경로에서 추가, 첫 페이지는 Mongo/Feign 호출 없이 버퍼에서 응답
+// 채팅방 수 초과 시 LRU, 일정 시간 조회/전송이 없으면 idle 로 제거
+// 다른 인스턴스에서 전송한 채팅은 이 인스턴스의 전송 경로를 거치지 않으므로 relay 사용 시에는 버퍼를 사용하지 않음
+@Component
+public class RecentChatBuffer {
+
+    private static final Comparator<BufferedChat> LATEST_FIRST = Comparator
+            .comparing((BufferedChat bufferedChat) -> bufferedChat.getChat().getCreatedAt())
+            .thenComparing(bufferedChat -> bufferedChat.getChat().getChatId())
+            .reversed();
+
+    private final boolean enabled;
+    private final int capacity;
+    private final int maxRooms;
+    private final long idleTimeoutMs;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter lruEvictionCounter;
+    private final Counter idleEvictionCounter;
+
+    // 접근 순서 기준 LRU
+    private final Map<Long, RoomBuffer> rooms;
+
+    public RecentChatBuffer(MeterRegistry meterRegistry,
+                            @Value("${familring.chat.broker.relay.enabled:false}") boolean relayEnabled,
+                            @Value("${familring.chat.recent-buffer.capacity:50}") int capacity,
+                            @Value("${familring.chat.recent-buffer.max-rooms:1000}") int maxRooms,
+                            @Value("${familring.chat.recent-buffer.idle-timeout-ms:600000}") long idleTimeoutMs) {
+        this.enabled = !relayEnabled;
+        this.capacity = capacity;
+        this.maxRooms = maxRooms;
+        this.idleTimeoutMs = idleTimeoutMs;
+
+        this.hitCounter = Counter.builder("familring.chat.recent-buffer.requests").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("familring.chat.recent-buffer.requests").tag("result", "miss").register(meterRegistry);
+        this.lruEvictionCounter = Counter.builder("familring.chat.recent-buffer.evictions").tag("cause", "lru").register(meterRegistry);
+        this.idleEvictionCounter = Counter.builder("familring.chat.recent-buffer.evictions").tag("cause", "idle").register(meterRegistry);
+
+        this.rooms = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, RoomBuffer> eldest) {
+                if (size() > RecentChatBuffer.this.maxRooms) {
+                    lruEvictionCounter.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        // 메모리 사용량 (버퍼 채팅방 수, 버퍼 채팅 수)
+        Gauge.builder("familring.chat.recent-buffer.rooms", this, buffer -> buffer.roomCount()).register(meterRegistry);
+        Gauge.builder("familring.chat.recent-buffer.messages", this, buffer -> buffer.messageCount()).register(meterRegistry);
+    }
+
+    // 최신 size개 조회 (최신순), 버퍼로 응답할 수 없으면 empty
+    public Optional<RecentChats> findLatest(Long roomId, int size) {
+        RoomBuffer buffer = getRoom(roomId);
+        if (buffer == null || size > capacity) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        synchronized (buffer) {
+            if (buffer.seeding || (buffer.chats.size() < size && buffer.hasOlder)) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+
+            List<BufferedChat> latest = new ArrayList<>(Math.min(size, buffer.chats.size()));
+            Iterator<BufferedChat> iterator = buffer.chats.iterator();
+            while (iterator.hasNext() && latest.size() < size) {
+                latest.add(iterator.next());
+            }
+            boolean hasNext = buffer.chats.size() > size || buffer.hasOlder;
+            buffer.lastAccessedAt = System.currentTimeMillis();
+
+            hitCounter.increment();
+            return Optional.of(new RecentChats(latest, hasNext));
+        }
+    }
+
+    // 최신 채팅 size개 (최신순), 버퍼가 없으면 empty (조회 통계에는 포함하지 않음)
+    public Optional<List<Chat>> findLatestChats(Long roomId, int size) {
+        RoomBuffer buffer = getRoom(roomId);
+        if (buffer == null) {
+            return Optional.empty();
+        }
+
+        synchronized (buffer) {
+            if (buffer.seeding) {
+                return Optional.empty();
+            }
+            return Optional.of(buffer.chats.stream()
+                    .limit(size)
+                    .map(BufferedChat::getChat)
+                    .toList());
+        }
+    }
+
+    // 첫 페이지를 Mongo 에서 조회하기 전에 호출
+    // 조회하는 동안 전송된 채팅은 seed 전까지 이 버퍼에 모아 두고 seed 할 때 합침
+    public void beginSeed(Long roomId) {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (rooms) {
+            if (!rooms.containsKey(roomId)) {
+                RoomBuffer buffer = new RoomBuffer();
+                buffer.seeding = true;
+                buffer.lastAccessedAt = System.currentTimeMillis();
+                rooms.put(roomId, buffer);
+            }
+        }
+    }
+
+    // Mongo 에서 조회한 첫 페이지(최신순)로 버퍼 채우기 (append 와 같은 채팅방 lane 에서 호출)
+    // 버퍼에 이미 있는 채팅(조회 이후 전송된 채팅)은 유지하고 chatId 기준으로 합쳐 최신 capacity개만 보관
+    public void seed(Long roomId, List<Chat> chats, List<ChatResponse> responses, boolean hasNext) {
+        // beginSeed 이후 구성원 변경, LRU, idle 로 제거된 경우에는 채우지 않음 (다음 조회에서 다시 채움)
+        RoomBuffer buffer = getRoom(roomId);
+        if (buffer == null) {
+            return;
+        }
+
+        synchronized (buffer) {
+            Map<String, BufferedChat> merged = new LinkedHashMap<>();
+            buffer.chats.forEach(bufferedChat -> merged.put(bufferedChat.getChat().getChatId(), bufferedChat));
+            for (int i = 0; i < chats.size(); i++) {
+                // 같은 응답 객체가 조회 응답으로도 나가므로 복사본을 보관
+                merged.putIfAbsent(chats.get(i).getChatId(), new BufferedChat(chats.get(i), responses.get(i).toBuilder().build()));
+            }
+
+            List<BufferedChat> sorted = new ArrayList<>(merged.values());
+            sorted.sort(LATEST_FIRST);
+
+            buffer.chats.clear();
+            sorted.stream().limit(capacity).forEach(buffer.chats::addLast);
+            buffer.hasOlder = buffer.hasOlder || hasNext || sorted.size() > capacity;
+            buffer.seeding = false;
+            buffer.lastAccessedAt = System.currentTimeMillis();
+        }
+    }
+
+    // 전송 경로에서 새 채팅 추가 (버퍼가 채워졌거나 채우는 중인 채팅방만)
+    public void append(Chat chat, ChatResponse response) {
+        RoomBuffer buffer = getRoom(chat.getRoomId());
+        if (buffer == null) {
+            return;
+        }
+
+        synchronized (buffer) {
+            buffer.chats.addFirst(new BufferedChat(chat, response.toBuilder().build()));
+            if (buffer.chats.size() > capacity) {
+                buffer.chats.removeLast();
+                buffer.hasOlder = true;
+            }
+            buffer.lastAccessedAt = System.currentTimeMillis();
+        }
+    }
+
+    // 투표 참여/완료 시 버퍼에 있는 같은 투표 정보 갱신
+    public void updateVote(Long roomId, Vote vote) {
+        RoomBuffer buffer = getRoom(roomId);
+        if (buffer == null) {
+            return;
+        }
+
+        synchronized (buffer) {
+            // 이미 응답에 사용 중일 수 있으므로 기존 응답을 바꾸지 않고 새 응답으로 교체
+            List<BufferedChat> updated = new ArrayList<>(buffer.chats.size());
+            for (BufferedChat bufferedChat : buffer.chats) {
+                if (vote.getVoteId().equals(bufferedChat.getChat().getVoteId())) {
+                    bufferedChat = new BufferedChat(bufferedChat.getChat(), bufferedChat.getResponse().toBuilder().vote(vote).build());
+                }
+                updated.add(bufferedChat);
+            }
+            buffer.chats.clear();
+            buffer.chats.addAll(updated);
+        }
+    }
+
+    public void evict(Long roomId) {
+        synchronized (rooms) {
+            rooms.remove(roomId);
+        }
+    }
+
+    @EventListener
+    public void handleFamilyMemberChanged(FamilyMemberChangedEvent event) {
+        evict(event.getFamilyId());
+    }
+
+    @Scheduled(fixedDelayString = "${familring.chat.recent-buffer.sweep-interval-ms:60000}")
+    public void evictIdleRooms() {
+        long now = System.currentTimeMillis();
+        synchronized (rooms) {
+            Iterator<RoomBuffer> iterator = rooms.values().iterator();
+            while (iterator.hasNext()) {
+                if (now - iterator.next().lastAccessedAt > idleTimeoutMs) {
+                    iterator.remove();
+                    idleEvictionCounter.increment();
+                }
+            }
+        }
+    }
+
+    private RoomBuffer getRoom(Long roomId) {
+        synchronized (rooms) {
+            return rooms.get(roomId);
+        }
+    }
+
+    private int roomCount() {
+        synchronized (rooms) {
+            return rooms.size();
+        }
+    }
+
+    private int messageCount() {
+        synchronized (rooms) {
+            return rooms.values().stream().mapToInt(buffer -> buffer.chats.size()).sum();
+        }
+    }
+
+    private static class RoomBuffer {
+        private final Deque<BufferedChat> chats = new ArrayDeque<>(); // 최신 채팅이 앞
+        private boolean hasOlder; // 버퍼 밖에 더 오래된 채팅 존재 여부
+        private boolean seeding; // beginSeed 후 seed 전 (조회에 사용하지 않음)
+        private volatile long lastAccessedAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class BufferedChat {
+        private final Chat chat;
+        private final ChatResponse response;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RecentChats {
+        private final List<BufferedChat> chats;
+        private final boolean hasNext;
+    }
+}
@@ -0,0 +1,28 @@
+package com.familring.familyservice.service.chat;
+
+import com.familring.familyservice.model.dto.chat.RoomRoster;
+import com.familring.familyservice.model.dto.response.UserInfoResponse;
+
+public interface RoomRosterService {
+
+    // 채팅방 구성원 스냅샷 조회 (없으면 생성)
+    RoomRoster getRoster(Long roomId);
+
+    // 채팅방 구성원 조회 (스냅샷에 없으면 방마다 일정 간격으로만 스냅샷 갱신 후 조회, 구성원이 아니면 null)
+    UserInfoResponse findMember(Long roomId, Long userId);
+
+    // 채팅방 구성원인지 확인 (findMember 와 같이 확인하고 구성원이 아니면 NotChatRoomMemberException)
+    void checkMember(Long roomId, Long userId);
+
+    // 채팅방 구성원 조회 (구성원이 아니면 user-service 에서 조회)
+    UserInfoResponse getMember(Long roomId, Long userId);
+
+    // 채팅방 구성원 스냅샷 다시 생성
+    RoomRoster refreshRoster(Long roomId);
+
+    // 채팅방 구성원 스냅샷 다시 생성 (채팅방 lane 에서 Feign, MySQL 조회를 하지 않도록 별도 스레드에서)
+    void refreshRosterAsync(Long roomId);
+
+    // 채팅방 구성원 스냅샷 제거
+    void evictRoster(Long roomId);
+}
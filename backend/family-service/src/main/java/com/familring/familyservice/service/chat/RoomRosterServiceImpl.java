@@ -0,0 +1,188 @@
+package com.familring.familyservice.service.chat;
+
+import com.familring.familyservice.exception.chat.NotChatRoomMemberException;
+import com.familring.familyservice.model.dto.chat.RoomRoster;
+import com.familring.familyservice.model.dto.response.UserInfoResponse;
+import com.familring.familyservice.service.client.UserServiceFeignClient;
+import com.familring.familyservice.service.family.FamilyService;
+import com.familring.familyservice.service.family.event.FamilyMemberChangedEvent;
+import com.familring.familyservice.service.family.event.FamilyMembershipChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 채팅방 구성원 스냅샷
+// 첫 구독 시 생성하고 마지막 구독자가 나가면 제거, 구독 없이 생성된 스냅샷은 max-age 가 지나면 제거
+// 다른 인스턴스의 가족 구성원 변경은 Bus 이벤트로 제거
+@Service
+@Log4j2
+public class RoomRosterServiceImpl implements RoomRosterService {
+
+    private final FamilyService familyService;
+    private final UserServiceFeignClient userServiceFeignClient;
+    private final long missRefreshIntervalMs;
+    private final long maxAgeMs;
+
+    private final Map<Long, RoomRoster> rosters = new ConcurrentHashMap<>();
+
+    // 스냅샷에 없는 회원 조회로 인한 마지막 갱신 시간 (방마다 missRefreshIntervalMs 에 한 번만 갱신)
+    private final Map<Long, Long> missRefreshedAt = new ConcurrentHashMap<>();
+
+    // 입장 시 스냅샷 생성 (채팅방 lane 밖), 가득 차면 버리고 다음 조회에서 생성
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public RoomRosterServiceImpl(FamilyService familyService, UserServiceFeignClient userServiceFeignClient,
+                                 @Value("${familring.chat.roster.miss-refresh-interval-ms:5000}") long missRefreshIntervalMs,
+                                 @Value("${familring.chat.roster.max-age-ms:600000}") long maxAgeMs,
+                                 @Value("${familring.chat.roster.refresh-threads:2}") int refreshThreads) {
+        this.familyService = familyService;
+        this.userServiceFeignClient = userServiceFeignClient;
+        this.missRefreshIntervalMs = missRefreshIntervalMs;
+        this.maxAgeMs = maxAgeMs;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1000), runnable -> {
+            Thread thread = new Thread(runnable, "chat-roster-refresh-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Override
+    public RoomRoster getRoster(Long roomId) {
+        RoomRoster roster = rosters.get(roomId);
+        if (roster != null) {
+            return roster;
+        }
+        return refreshRoster(roomId);
+    }
+
+    @Override
+    public UserInfoResponse findMember(Long roomId, Long userId) {
+        UserInfoResponse member = getRoster(roomId).getMember(userId);
+        if (member != null) {
+            return member;
+        }
+
+        // 스냅샷 이후 가족에 들어온 경우일 수 있으므로 스냅샷 갱신 (구성원이 아닌 회원의 반복 요청으로 매번 갱신하지 않도록 제한)
+        if (!tryClaimMissRefresh(roomId)) {
+            return null;
+        }
+        return refreshRoster(roomId).getMember(userId);
+    }
+
+    @Override
+    public void checkMember(Long roomId, Long userId) {
+        // 스냅샷에 없으면 최근에 가족에 들어온 경우일 수 있으므로 갱신 후 한 번 더 확인 (갱신 횟수는 제한)
+        if (findMember(roomId, userId) == null) {
+            log.warn("[checkMember] 채팅방 구성원이 아닌 회원의 요청 roomId={}, userId={}", roomId, userId);
+            throw new NotChatRoomMemberException();
+        }
+    }
+
+    @Override
+    public UserInfoResponse getMember(Long roomId, Long userId) {
+        UserInfoResponse member = findMember(roomId, userId);
+        if (member != null) {
+            return member;
+        }
+
+        log.warn("[getMember] 채팅방 구성원이 아닌 회원 roomId={}, userId={}", roomId, userId);
+        return userServiceFeignClient.getUser(userId).getData();
+    }
+
+    @Override
+    public RoomRoster refreshRoster(Long roomId) {
+        // 1. 가족 구성원 조회 (SQL 1회 + user-service 1회)
+        List<UserInfoResponse> members = familyService.getFamilyMemberListByFamilyId(roomId);
+
+        // 2. 스냅샷 생성
+        RoomRoster roster = RoomRoster.builder()
+                .roomId(roomId)
+                .members(members.stream()
+                        .collect(Collectors.toUnmodifiableMap(UserInfoResponse::getUserId, Function.identity(), (a, b) -> a)))
+                .familyCount(members.size())
+                .loadedAt(LocalDateTime.now())
+                .build();
+        rosters.put(roomId, roster);
+        log.info("[refreshRoster] 채팅방 구성원 스냅샷 생성 roomId={}, familyCount={}", roomId, roster.getFamilyCount());
+
+        return roster;
+    }
+
+    @Override
+    public void refreshRosterAsync(Long roomId) {
+        refreshExecutor.execute(() -> {
+            try {
+                refreshRoster(roomId);
+            } catch (Exception e) {
+                log.warn("[refreshRosterAsync] 채팅방 구성원 스냅샷 생성 실패 roomId={}", roomId, e);
+            }
+        });
+    }
+
+    @Override
+    public void evictRoster(Long roomId) {
+        rosters.remove(roomId);
+        missRefreshedAt.remove(roomId);
+        log.info("[evictRoster] 채팅방 구성원 스냅샷 제거 roomId={}", roomId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleFamilyMemberChanged(FamilyMemberChangedEvent event) {
+        // 가족 구성원 변경 시 다음 조회에서 다시 생성되도록 제거
+        evictRoster(event.getFamilyId());
+    }
+
+    @EventListener
+    public void handleFamilyMembershipChanged(FamilyMembershipChangedEvent event) {
+        // 다른 인스턴스에서 변경된 경우 (이 인스턴스에서 보낸 이벤트도 수신하지만 제거는 여러 번 해도 무방)
+        if (event.getFamilyId() != null) {
+            evictRoster(event.getFamilyId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${familring.chat.roster.sweep-interval-ms:60000}")
+    public void evictExpiredRosters() {
+        // 구독 없이 생성된 스냅샷(내보내기, 구성원 조회 등)은 퇴장으로 제거되지 않으므로 오래된 스냅샷 제거
+        // 구독 중인 방은 다음 조회에서 다시 생성되므로 다른 인스턴스에서 놓친 변경도 max-age 안에 반영
+        LocalDateTime expiredBefore = LocalDateTime.now().minusNanos(maxAgeMs * 1_000_000L);
+        rosters.entrySet().removeIf(entry -> entry.getValue().getLoadedAt().isBefore(expiredBefore));
+
+        long now = System.currentTimeMillis();
+        missRefreshedAt.values().removeIf(refreshedAt -> now - refreshedAt > missRefreshIntervalMs);
+    }
+
+    private boolean tryClaimMissRefresh(Long roomId) {
+        long now = System.currentTimeMillis();
+        boolean[] claimed = new boolean[1];
+        missRefreshedAt.compute(roomId, (key, refreshedAt) -> {
+            if (refreshedAt != null && now - refreshedAt < missRefreshIntervalMs) {
+                return refreshedAt;
+            }
+            claimed[0] = true;
+            return now;
+        });
+        return claimed[0];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -8,12 +8,18 @@ public class NotificationEvent extends ApplicationEvent {
     private final Long roomId;
     private final String message;
     private final String type;
+    private final Long userId; // 채팅방 퇴장 알림의 퇴장한 회원 id
 
     public NotificationEvent(Object source, Long roomId, String message, String type) {
+        this(source, roomId, message, type, null);
+    }
+
+    public NotificationEvent(Object source, Long roomId, String message, String type, Long userId) {
         super(source);
         this.roomId = roomId;
         this.message = message;
         this.type = type;
+        this.userId = userId;
     }
 
     public Long getRoomId() {
@@ -1,24 +1,24 @@
 package com.familring.familyservice.service.chat.event;
 
+import com.familring.familyservice.service.chat.ChatBroadcastService;
+import com.familring.familyservice.service.chat.ReadStatusCoalescer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class NotificationEventListener {
-    private final SimpMessagingTemplate template;
+    private final ChatBroadcastService chatBroadcastService;
+    private final ReadStatusCoalescer readStatusCoalescer;
 
     @EventListener
     public void handleNotificationEvent(NotificationEvent event) {
         if(event.getType().equals("read")) {
-            String destination = "/room/" + event.getRoomId() + "/readStatus";
-            template.convertAndSend(destination, event.getMessage());
-            System.out.println("[NotificationEventListener] roomId=" + event.getRoomId() + "에 알림 전송: " + event.getMessage());
+            // 읽음 상태는 채팅방별로 모아서 전송
+            readStatusCoalescer.request(event.getRoomId(), event.getUserId());
         } else if(event.getType().equals("error")) {
-            String destination = "/room/" + event.getRoomId() + "/error";
-            template.convertAndSend(destination, event.getMessage());
+            chatBroadcastService.broadcastError(event.getRoomId(), event.getMessage());
             System.out.println("[NotificationEventListener] roomId=" + event.getRoomId() + "에 알림 전송: " + event.getMessage());
         }
     }
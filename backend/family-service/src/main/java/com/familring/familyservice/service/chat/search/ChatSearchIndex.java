@@ -0,0 +1,152 @@
+package com.familring.familyservice.service.chat.search;
+
+import com.familring.familyservice.model.dto.chat.Chat;
+import com.familring.familyservice.model.dto.chat.MessageType;
+import com.familring.familyservice.model.repository.ChatRepository;
+import com.familring.familyservice.service.chat.ChatWriteBehindService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+// 채팅방별 채팅 검색 역색인 관리
+// 채팅방을 처음 검색할 때 새 색인에 Mongo 에서 백필한 뒤 교체하고, 이후에는 전송 경로에서 새 채팅을 추가
+// 다른 인스턴스(relay)나 백필 중에 전송된 채팅은 전송 경로를 거치지 않으므로 검색할 때마다 마지막 순번 이후를 다시 읽어 색인
+// 색인한 채팅방 수가 max-rooms 를 넘으면 가장 오래 사용하지 않은 채팅방부터 제거 (다시 검색하면 재생성)
+@Component
+@Log4j2
+public class ChatSearchIndex {
+
+    // 검색 대상 메시지 (음성, 사진은 내용이 파일 경로라서 제외)
+    static final List<MessageType> SEARCHABLE_TYPES = List.of(MessageType.MESSAGE, MessageType.VOTE);
+    private static final Sort SEQ_SORT = Sort.by(Sort.Direction.ASC, "seq");
+
+    private final ChatRepository chatRepository;
+    private final ChatWriteBehindService chatWriteBehindService;
+    private final Timer backfillTimer;
+    private final int maxRooms;
+
+    private final Map<Long, RoomSearchIndex> rooms;
+    // 백필 중인 채팅방 (같은 채팅방을 동시에 검색하면 한 번만 백필)
+    private final Map<Long, CompletableFuture<RoomSearchIndex>> building = new ConcurrentHashMap<>();
+
+    public ChatSearchIndex(ChatRepository chatRepository, ChatWriteBehindService chatWriteBehindService, MeterRegistry meterRegistry,
+                           @Value("${familring.chat.search.max-rooms:500}") int maxRooms) {
+        this.chatRepository = chatRepository;
+        this.chatWriteBehindService = chatWriteBehindService;
+        this.maxRooms = maxRooms;
+        this.backfillTimer = Timer.builder("familring.chat.search.backfill").register(meterRegistry);
+        this.rooms = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, RoomSearchIndex> eldest) {
+                return size() > ChatSearchIndex.this.maxRooms;
+            }
+        };
+
+        // 색인 크기 (채팅방 수, 색인한 채팅 수, posting list 크기)
+        Gauge.builder("familring.chat.search.rooms", this, index -> index.snapshot().size()).register(meterRegistry);
+        Gauge.builder("familring.chat.search.chats", this,
+                index -> index.snapshot().stream().mapToInt(RoomSearchIndex::size).sum()).register(meterRegistry);
+        Gauge.builder("familring.chat.search.postings", this,
+                index -> index.snapshot().stream().mapToInt(RoomSearchIndex::postingBytes).sum())
+                .baseUnit("bytes").register(meterRegistry);
+    }
+
+    // 채팅방 색인 조회 (없으면 백필) 후 마지막 순번 이후 채팅 색인
+    RoomSearchIndex getIndex(Long roomId) {
+        RoomSearchIndex index = findIndex(roomId);
+        if (index == null) {
+            index = build(roomId);
+        }
+        catchUp(roomId, index);
+        return index;
+    }
+
+    // 전송 경로에서 새 채팅 추가 (색인이 만들어진 채팅방만)
+    public void add(Chat chat) {
+        if (!SEARCHABLE_TYPES.contains(chat.getMessageType())) {
+            return;
+        }
+
+        // 백필 중인 채팅방은 교체 후 다시 읽기로 색인
+        RoomSearchIndex index = findIndex(chat.getRoomId());
+        if (index != null) {
+            index.add(chat.getChatId(), chat.getSeq(), chat.getContent());
+        }
+    }
+
+    private RoomSearchIndex findIndex(Long roomId) {
+        synchronized (rooms) {
+            return rooms.get(roomId);
+        }
+    }
+
+    // 색인 lock 밖에서 새 색인에 백필한 뒤 교체 (백필 중에도 전송 경로의 추가는 대기하지 않음)
+    private RoomSearchIndex build(Long roomId) {
+        CompletableFuture<RoomSearchIndex> future = new CompletableFuture<>();
+        CompletableFuture<RoomSearchIndex> running = building.putIfAbsent(roomId, future);
+        if (running != null) {
+            return running.join();
+        }
+
+        try {
+            RoomSearchIndex index = findIndex(roomId);
+            if (index == null) {
+                RoomSearchIndex backfilled = new RoomSearchIndex();
+                backfillTimer.record(() -> backfill(roomId, backfilled));
+                synchronized (rooms) {
+                    rooms.put(roomId, backfilled);
+                }
+                index = backfilled;
+            }
+            future.complete(index);
+            return index;
+        } catch (RuntimeException e) {
+            // 다음 검색에서 처음부터 다시 백필
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            building.remove(roomId, future);
+        }
+    }
+
+    private void backfill(Long roomId, RoomSearchIndex index) {
+        // id, 순번, 내용만 오래된 순으로 읽어 한 번에 메모리에 올리지 않고 색인
+        Sort sort = Sort.by(Sort.Direction.ASC, "createdAt", "chatId");
+        try (Stream<Chat> chats = chatRepository.streamByRoomIdAndMessageTypeIn(roomId, SEARCHABLE_TYPES, sort)) {
+            chats.forEach(chat -> index.add(chat.getChatId(), chat.getSeq(), chat.getContent()));
+        }
+        log.info("[backfill] 채팅 검색 색인 생성 roomId={}, chats={}, postingBytes={}", roomId, index.size(), index.postingBytes());
+    }
+
+    // 마지막 순번 REPLAY_WINDOW 이전부터 다시 읽어 빠진 채팅 색인 (이미 색인한 순번은 건너뜀)
+    private void catchUp(Long roomId, RoomSearchIndex index) {
+        long from = index.replayFrom();
+        try (Stream<Chat> chats = chatRepository.streamByRoomIdAndMessageTypeInAndSeqAfter(roomId, SEARCHABLE_TYPES, from, SEQ_SORT)) {
+            chats.forEach(chat -> index.add(chat.getChatId(), chat.getSeq(), chat.getContent()));
+        }
+
+        // write-behind 큐에서 아직 저장되지 않은 채팅
+        chatWriteBehindService.findPendingByRoomId(roomId).stream()
+                .filter(chat -> SEARCHABLE_TYPES.contains(chat.getMessageType()))
+                .sorted(Comparator.comparing(Chat::getSeq, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(chat -> index.add(chat.getChatId(), chat.getSeq(), chat.getContent()));
+    }
+
+    private List<RoomSearchIndex> snapshot() {
+        synchronized (rooms) {
+            return List.copyOf(rooms.values());
+        }
+    }
+}
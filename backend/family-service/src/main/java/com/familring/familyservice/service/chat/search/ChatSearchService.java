@@ -0,0 +1,9 @@
+package com.familring.familyservice.service.chat.search;
+
+import com.familring.familyservice.model.dto.response.ChatSearchResponse;
+
+public interface ChatSearchService {
+
+    // 채팅방 채팅 검색 - before(커서) 이전 검색 결과를 최신순으로 size개 조회
+    ChatSearchResponse searchChat(Long roomId, Long userId, String query, Integer before, int size);
+}
@@ -0,0 +1,101 @@
+package com.familring.familyservice.service.chat.search;
+
+import com.familring.familyservice.exception.chat.InvalidPageSizeException;
+import com.familring.familyservice.model.dto.chat.Chat;
+import com.familring.familyservice.model.dto.response.ChatSearchResponse;
+import com.familring.familyservice.model.repository.ChatRepository;
+import com.familring.familyservice.service.chat.ChatRoomService;
+import com.familring.familyservice.service.chat.ChatWriteBehindService;
+import com.familring.familyservice.service.chat.RoomRosterService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ChatSearchServiceImpl implements ChatSearchService {
+
+    private static final int MAX_SEARCH_SIZE = 50;
+
+    private final ChatSearchIndex chatSearchIndex;
+    private final ChatRepository chatRepository;
+    private final ChatRoomService chatRoomService;
+    private final ChatWriteBehindService chatWriteBehindService;
+    private final RoomRosterService roomRosterService;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ChatSearchResponse searchChat(Long roomId, Long userId, String query, Integer before, int size) {
+        log.info("[searchChat] 채팅 검색 roomId={}, userId={}, query={}, before={}, size={}", roomId, userId, query, before, size);
+        // size 가 0 이하이면 결과 없이 hasNext 만 true 가 되므로 조회 전에 거절
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new InvalidPageSizeException();
+        }
+        // 구성원이 아닌 회원이 다른 채팅방을 검색하거나, 색인을 만들게 해 다른 채팅방 색인을 밀어내지 않도록 먼저 확인
+        roomRosterService.checkMember(roomId, userId);
+
+        String normalizedQuery = RoomSearchIndex.normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return ChatSearchResponse.builder().hasNext(false).chatList(List.of()).build();
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        // 1. 역색인에서 모든 gram 을 포함하는 후보 조회 (컬렉션 스캔 없음)
+        RoomSearchIndex index = chatSearchIndex.getIndex(roomId);
+        int[] candidates = index.findCandidates(normalizedQuery, before == null ? Integer.MAX_VALUE : before);
+
+        // 2. 후보를 id로 조회해 실제로 검색어를 포함하는 채팅만 size + 1개까지 선택
+        List<Chat> hits = new ArrayList<>(size);
+        Integer lastOrdinal = null;
+        boolean hasNext = false;
+        int batchSize = Math.max(size * 2, 20);
+
+        for (int from = 0; from < candidates.length && !hasNext; from += batchSize) {
+            int to = Math.min(from + batchSize, candidates.length);
+            List<String> chatIds = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                chatIds.add(index.getChatId(candidates[i]));
+            }
+            Map<String, Chat> chats = chatRepository.findAllById(chatIds).stream()
+                    .collect(Collectors.toMap(Chat::getChatId, Function.identity()));
+            // write-behind 큐에서 아직 저장되지 않은 채팅
+            for (String chatId : chatIds) {
+                if (!chats.containsKey(chatId)) {
+                    chatWriteBehindService.findPendingById(roomId, chatId).ifPresent(chat -> chats.put(chatId, chat));
+                }
+            }
+
+            for (int i = from; i < to; i++) {
+                Chat chat = chats.get(chatIds.get(i - from));
+                if (chat == null || !RoomSearchIndex.normalize(chat.getContent()).contains(normalizedQuery)) {
+                    continue;
+                }
+                if (hits.size() == size) {
+                    hasNext = true;
+                    break;
+                }
+                hits.add(chat);
+                lastOrdinal = candidates[i];
+            }
+        }
+
+        sample.stop(meterRegistry.timer("familring.chat.search.query"));
+
+        // 3. 채팅 조회와 같은 방식으로 응답 조립 (발신자, 투표, 안읽은 사람 수)
+        return ChatSearchResponse.builder()
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? lastOrdinal : null)
+                .chatList(chatRoomService.toChatResponses(roomId, hits))
+                .build();
+    }
+}
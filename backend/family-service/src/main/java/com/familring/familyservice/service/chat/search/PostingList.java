@@ -0,0 +1,63 @@
+package com.familring.familyservice.service.chat.search;
+
+import java.util.Arrays;
+
+// 채팅 번호(ordinal) 오름차순 posting list
+// 이전 번호와의 차이를 varint 로 저장해 대부분 1~2 byte 로 유지
+class PostingList {
+
+    private byte[] bytes = new byte[4];
+    private int length;
+    private int count;
+    private int last = -1;
+
+    void add(int ordinal) {
+        if (ordinal <= last) {
+            return;
+        }
+
+        int delta = ordinal - last;
+        last = ordinal;
+        count++;
+
+        ensureCapacity(length + 5);
+        while ((delta & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        bytes[length++] = (byte) delta;
+    }
+
+    int[] decode() {
+        int[] ordinals = new int[count];
+        int position = 0;
+        int value = -1;
+        for (int i = 0; i < count; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            value += delta;
+            ordinals[i] = value;
+        }
+        return ordinals;
+    }
+
+    int size() {
+        return count;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+        }
+    }
+}
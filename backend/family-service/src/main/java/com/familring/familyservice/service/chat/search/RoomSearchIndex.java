@@ -0,0 +1,134 @@
+package com.familring.familyservice.service.chat.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 채팅방 하나의 역색인
+// 채팅 내용을 글자 1-gram, 2-gram 으로 나눠 gram -> 채팅 번호(ordinal) posting list 로 저장
+// 채팅 번호는 색인한 순서(오래된 순)로 발급하고 chatId 만 보관 (내용은 보관하지 않음)
+class RoomSearchIndex {
+
+    // 다른 인스턴스의 채팅, write-behind 로 늦게 저장된 채팅은 순번이 뒤바뀌어 들어올 수 있으므로
+    // 마지막 순번에서 REPLAY_WINDOW 이내의 순번은 따로 기록해 두고 다시 읽어 빠진 채팅만 색인
+    static final int REPLAY_WINDOW = 100;
+
+    private final List<String> chatIds = new ArrayList<>();
+    private final Map<Integer, PostingList> postings = new HashMap<>();
+    private final NavigableSet<Long> recentSeqs = new TreeSet<>(); // 마지막 순번 REPLAY_WINDOW 이내에서 색인한 순번
+    private long lastSeq; // 색인한 마지막 채팅방 순번
+    private int postingBytes;
+
+    // 이 순번 이후 채팅을 다시 읽으면 빠진 채팅을 모두 색인할 수 있음
+    synchronized long replayFrom() {
+        return Math.max(lastSeq - REPLAY_WINDOW, 0);
+    }
+
+    synchronized void add(String chatId, Long seq, String content) {
+        // 백필, 다시 읽기, 전송 경로에서 같은 채팅을 두 번 색인하지 않도록 순번으로 확인
+        if (seq != null) {
+            if (seq <= lastSeq - REPLAY_WINDOW || !recentSeqs.add(seq)) {
+                return;
+            }
+            lastSeq = Math.max(lastSeq, seq);
+            recentSeqs.headSet(lastSeq - REPLAY_WINDOW, true).clear();
+        }
+
+        int ordinal = chatIds.size();
+        chatIds.add(chatId);
+
+        for (int gram : toGrams(normalize(content), true)) {
+            PostingList postingList = postings.computeIfAbsent(gram, key -> new PostingList());
+            int before = postingList.sizeInBytes();
+            postingList.add(ordinal);
+            postingBytes += postingList.sizeInBytes() - before;
+        }
+    }
+
+    // before 보다 작은 채팅 번호 중 query 의 모든 gram 을 포함하는 후보 (최신순)
+    synchronized int[] findCandidates(String normalizedQuery, int before) {
+        Set<Integer> grams = toGrams(normalizedQuery, normalizedQuery.length() == 1);
+        if (grams.isEmpty()) {
+            return new int[0];
+        }
+
+        // 짧은 posting list 부터 교집합
+        List<int[]> lists = new ArrayList<>(grams.size());
+        for (int gram : grams) {
+            PostingList postingList = postings.get(gram);
+            if (postingList == null) {
+                return new int[0];
+            }
+            lists.add(postingList.decode());
+        }
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+
+        int[] smallest = lists.get(0);
+        int[] candidates = new int[smallest.length];
+        int count = 0;
+        for (int i = smallest.length - 1; i >= 0; i--) {
+            int ordinal = smallest[i];
+            if (ordinal >= before) {
+                continue;
+            }
+
+            boolean matched = true;
+            for (int j = 1; j < lists.size() && matched; j++) {
+                matched = Arrays.binarySearch(lists.get(j), ordinal) >= 0;
+            }
+            if (matched) {
+                candidates[count++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    synchronized String getChatId(int ordinal) {
+        return chatIds.get(ordinal);
+    }
+
+    synchronized int size() {
+        return chatIds.size();
+    }
+
+    synchronized int postingBytes() {
+        return postingBytes;
+    }
+
+    // 공백 제거 + 소문자 (한글은 음절 단위로 비교)
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    // 1-gram 은 글자 코드, 2-gram 은 (앞 글자 << 16 | 뒤 글자)
+    private static Set<Integer> toGrams(String text, boolean includeUnigrams) {
+        Set<Integer> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (includeUnigrams) {
+                grams.add((int) c);
+            }
+            if (i + 1 < text.length()) {
+                grams.add((c << 16) | text.charAt(i + 1));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,204 @@
+package com.familring.familyservice.service.family;
+
+import com.familring.familyservice.model.dao.FamilyDao;
+import com.familring.familyservice.model.dto.Family;
+import com.familring.familyservice.service.family.event.FamilyMembershipChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 가족 구성 정보 read-through 캐시 (/client/family* 내부 호출이 매번 MySQL 을 조회하지 않도록)
+// userId -> familyId, familyId -> 가족 정보, familyId -> 구성원 userId 목록을 각각 max-entries 개까지 LRU 로 보관
+// 가족 생성, 가입, 탈퇴, 상태 변경 시 해당 key 만 제거 (트랜잭션 중이면 커밋 후 한 번 더 제거)
+// 다른 인스턴스의 가족 구성원 변경은 Bus 이벤트로 제거하고, Bus 로 알리지 않는 변경이나 유실된 메시지는 ttl-ms 가 지나면 다시 조회
+@Component
+public class FamilyMembershipCache {
+
+    private final FamilyDao familyDao;
+
+    private final LruCache<Long, Long> userFamilies;
+    private final LruCache<Long, Family> families;
+    private final LruCache<Long, List<Long>> members;
+
+    // 조회 중 제거된 경우 조회 결과(변경 전 값)를 넣지 않도록 제거할 때마다 증가
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public FamilyMembershipCache(FamilyDao familyDao, MeterRegistry meterRegistry,
+                                 @Value("${familring.family.cache.max-entries:10000}") int maxEntries,
+                                 @Value("${familring.family.cache.ttl-ms:300000}") long ttlMs) {
+        this.familyDao = familyDao;
+        this.userFamilies = new LruCache<>("user-family", maxEntries, ttlMs, meterRegistry);
+        this.families = new LruCache<>("family", maxEntries, ttlMs, meterRegistry);
+        this.members = new LruCache<>("members", maxEntries, ttlMs, meterRegistry);
+    }
+
+    // 회원의 familyId (가족이 없으면 empty, 캐시하지 않음)
+    public Optional<Long> findFamilyId(Long userId) {
+        Long familyId = userFamilies.get(userId);
+        if (familyId != null) {
+            return Optional.of(familyId);
+        }
+
+        long version = invalidations.get();
+        Optional<Family> family = familyDao.findFamilyByUserId(userId);
+        family.ifPresent(found -> {
+            putIfNotInvalidated(version, () -> userFamilies.put(userId, found.getFamilyId()));
+            putIfNotInvalidated(version, () -> families.put(found.getFamilyId(), found));
+        });
+        return family.map(Family::getFamilyId);
+    }
+
+    public Optional<Family> findFamily(Long familyId) {
+        Family family = families.get(familyId);
+        if (family != null) {
+            return Optional.of(family);
+        }
+
+        long version = invalidations.get();
+        Optional<Family> loaded = familyDao.findFamilyByFamilyId(familyId);
+        loaded.ifPresent(found -> putIfNotInvalidated(version, () -> families.put(familyId, found)));
+        return loaded;
+    }
+
+    public Optional<Family> findFamilyByUserId(Long userId) {
+        return findFamilyId(userId).flatMap(this::findFamily);
+    }
+
+    // 가족 구성원 userId 목록
+    public List<Long> findMembers(Long familyId) {
+        List<Long> cached = members.get(familyId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = invalidations.get();
+        List<Long> loaded = List.copyOf(familyDao.findFamilyUserByFamilyId(familyId));
+        putIfNotInvalidated(version, () -> members.put(familyId, loaded));
+        return loaded;
+    }
+
+    public List<Long> findMembersByUserId(Long userId) {
+        return findFamilyId(userId)
+                .map(this::findMembers)
+                .orElseGet(() -> familyDao.findFamilyUserByUserId(userId));
+    }
+
+    public int countMembersByUserId(Long userId) {
+        return findFamilyId(userId)
+                .map(familyId -> findMembers(familyId).size())
+                .orElseGet(() -> familyDao.countFamily_UserByUserId(userId));
+    }
+
+    // 가족 생성, 가입, 탈퇴한 회원
+    public void evictUser(Long userId) {
+        evict(() -> userFamilies.remove(userId));
+    }
+
+    // 가족 정보(구성원 수, 상태) 변경
+    public void evictFamily(Long familyId) {
+        evict(() -> families.remove(familyId));
+    }
+
+    // 가족 구성원 변경
+    public void evictMembers(Long familyId) {
+        evict(() -> members.remove(familyId));
+    }
+
+    @EventListener
+    public void handleFamilyMembershipChanged(FamilyMembershipChangedEvent event) {
+        // 다른 인스턴스에서 변경된 경우 (이 인스턴스에서 보낸 이벤트도 수신하지만 제거는 여러 번 해도 무방)
+        if (event.getUserId() != null) {
+            evictUser(event.getUserId());
+        }
+        if (event.getFamilyId() != null) {
+            evictFamily(event.getFamilyId());
+            evictMembers(event.getFamilyId());
+        }
+    }
+
+    private void evict(Runnable eviction) {
+        invalidations.incrementAndGet();
+        eviction.run();
+
+        // 커밋 전에 다른 요청이 변경 전 값을 다시 넣을 수 있으므로 커밋 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidations.incrementAndGet();
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private void putIfNotInvalidated(long version, Runnable put) {
+        if (invalidations.get() == version) {
+            put.run();
+        }
+    }
+
+    // 접근 순서 기준 LRU + 만료 시간 + 조회 통계
+    private static class LruCache<K, V> {
+        private final Map<K, CachedValue<V>> entries;
+        private final long ttlMs;
+        private final Counter hitCounter;
+        private final Counter missCounter;
+
+        private LruCache(String name, int maxEntries, long ttlMs, MeterRegistry meterRegistry) {
+            this.ttlMs = ttlMs;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+            this.hitCounter = Counter.builder("familring.family.cache.requests").tag("cache", name).tag("result", "hit").register(meterRegistry);
+            this.missCounter = Counter.builder("familring.family.cache.requests").tag("cache", name).tag("result", "miss").register(meterRegistry);
+            Gauge.builder("familring.family.cache.size", this, cache -> cache.size()).tag("cache", name).register(meterRegistry);
+        }
+
+        private synchronized V get(K key) {
+            CachedValue<V> cached = entries.get(key);
+            if (cached != null && cached.expiresAt < System.currentTimeMillis()) {
+                entries.remove(key);
+                cached = null;
+            }
+            (cached == null ? missCounter : hitCounter).increment();
+            return cached == null ? null : cached.value;
+        }
+
+        private synchronized void put(K key, V value) {
+            entries.put(key, new CachedValue<>(value, System.currentTimeMillis() + ttlMs));
+        }
+
+        private synchronized void remove(K key) {
+            entries.remove(key);
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private static class CachedValue<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private CachedValue(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
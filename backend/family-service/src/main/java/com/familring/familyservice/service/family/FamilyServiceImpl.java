@@ -16,8 +16,10 @@ import com.familring.familyservice.model.dto.response.UserInfoResponse;
 import com.familring.familyservice.service.client.AlbumServiceFeignClient;
 import com.familring.familyservice.service.client.QuestionServiceFeignClient;
 import com.familring.familyservice.service.client.UserServiceFeignClient;
+import com.familring.familyservice.service.family.event.FamilyMemberChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,14 +33,16 @@ import java.util.UUID;
 public class FamilyServiceImpl implements FamilyService {
 
     private final FamilyDao familyDao;
+    private final FamilyMembershipCache familyMembershipCache;
     private final UserServiceFeignClient userServiceFeignClient;
     private final QuestionServiceFeignClient questionServiceFeignClient;
     private final AlbumServiceFeignClient albumServiceFeignClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public FamilyInfoResponse getFamilyInfo(Long userId) {
-        // 1. 가족 조회
-        Family family = familyDao.findFamilyByUserId(userId)
+        // 1. 가족 조회 (캐시)
+        Family family = familyMembershipCache.findFamilyByUserId(userId)
                 .orElseThrow(() -> new FamilyNotFoundException());
 
         // 2. 응답 변환
@@ -55,8 +59,8 @@ public class FamilyServiceImpl implements FamilyService {
 
     @Override
     public String getFamilyCode(Long userId) {
-        // 1. 가족 조회
-        Family family = familyDao.findFamilyByUserId(userId)
+        // 1. 가족 조회 (캐시)
+        Family family = familyMembershipCache.findFamilyByUserId(userId)
                 .orElseThrow(() -> new FamilyNotFoundException());
 
         // 2.  가족 코드 조회
@@ -68,8 +72,8 @@ public class FamilyServiceImpl implements FamilyService {
 
     @Override
     public List<UserInfoResponse> getFamilyMemberList(Long userId) {
-        // 1.  userId의 가족 구성원 모두의 userId 추출
-        List<Long> members = familyDao.findFamilyUserByUserId(userId);
+        // 1.  userId의 가족 구성원 모두의 userId 추출 (캐시)
+        List<Long> members = familyMembershipCache.findMembersByUserId(userId);
 
         // 2. 가족 구성원 userId에 대해 user-service에게 사용자 정보 조회(GET "/users/info")  api 요청
         List<UserInfoResponse> userInfoResponses = userServiceFeignClient.getAllUser(members).getData();
@@ -80,8 +84,8 @@ public class FamilyServiceImpl implements FamilyService {
 
     @Override
     public List<UserInfoResponse> getFamilyMemberListByFamilyId(Long familyId) {
-        // 1.  userId의 가족 구성원 모두의 userId 추출
-        List<Long> members = familyDao.findFamilyUserByFamilyId(familyId);
+        // 1.  userId의 가족 구성원 모두의 userId 추출 (캐시)
+        List<Long> members = familyMembershipCache.findMembers(familyId);
 
         // 2. 가족 구성원 userId에 대해 user-service에게 사용자 정보 조회(GET "/users/info")  api 요청
         BaseResponse<List<UserInfoResponse>> response = userServiceFeignClient.getAllUser(members);
@@ -134,7 +138,7 @@ public class FamilyServiceImpl implements FamilyService {
 
     @Override
     public int getAllFamilyCount(Long userId) {
-        return familyDao.countFamily_UserByUserId(userId);
+        return familyMembershipCache.countMembersByUserId(userId);
     }
 
 
@@ -184,7 +188,12 @@ public class FamilyServiceImpl implements FamilyService {
         albumServiceFeignClient.createPersonAlbum(PersonAlbumCreateRequest
                 .builder().familyId(familyId).userId(userId).build());
 
-        // 6. 응답 변환
+        // 6. 가족 구성원 변경 이벤트 전송 (gateway 가족 정보 캐시 갱신), 가족 구성 정보 캐시 제거
+        familyMembershipCache.evictUser(userId);
+        familyMembershipCache.evictMembers(familyId);
+        eventPublisher.publishEvent(new FamilyMemberChangedEvent(this, familyId, userId));
+
+        // 7. 응답 변환
         FamilyInfoResponse response = FamilyInfoResponse.builder()
                 .familyId(family.getFamilyId())
                 .familyCode(family.getFamilyCode())
@@ -192,7 +201,7 @@ public class FamilyServiceImpl implements FamilyService {
                 .familyCommunicationStatus(family.getFamilyCommunicationStatus())
                 .build();
 
-        // 7. 응답
+        // 8. 응답
         return response;
     }
 
@@ -246,7 +255,13 @@ public class FamilyServiceImpl implements FamilyService {
         albumServiceFeignClient.createPersonAlbum(PersonAlbumCreateRequest
                 .builder().familyId(family.getFamilyId()).userId(userId).build());
 
-        // 6. 응답
+        // 6. 가족 구성원 변경 이벤트 전송 (채팅방 구성원 스냅샷, gateway 가족 정보 캐시 갱신), 가족 구성 정보 캐시 제거
+        familyMembershipCache.evictUser(userId);
+        familyMembershipCache.evictFamily(family.getFamilyId());
+        familyMembershipCache.evictMembers(family.getFamilyId());
+        eventPublisher.publishEvent(new FamilyMemberChangedEvent(this, family.getFamilyId(), userId));
+
+        // 7. 응답
         return "가죽 구성원 추가 완료";
     }
 
@@ -267,6 +282,12 @@ public class FamilyServiceImpl implements FamilyService {
         familyDao.deleteFamily_UserByFamilyIdAndUserId(family.getFamilyId(), userId);
         log.info("family_user의 컬럼 삭제 완료");
 
+        // 3. 가족 구성원 변경 이벤트 전송 (채팅방 구성원 스냅샷, gateway 가족 정보 캐시 갱신), 가족 구성 정보 캐시 제거
+        familyMembershipCache.evictUser(userId);
+        familyMembershipCache.evictFamily(family.getFamilyId());
+        familyMembershipCache.evictMembers(family.getFamilyId());
+        eventPublisher.publishEvent(new FamilyMemberChangedEvent(this, family.getFamilyId(), userId));
+
         return "가족 구성원 수정 완료";
     }
 
@@ -282,6 +303,7 @@ public class FamilyServiceImpl implements FamilyService {
         // 2. 가족 상태 변경
         int newStatus = Math.max(0, Math.min(100, currentStatus + familyStatusRequest.getAmount()));
         familyDao.updateFamilyCommunicationStatusByFamilyId(familyStatusRequest.getFamilyId(), newStatus);
+        familyMembershipCache.evictFamily(familyStatusRequest.getFamilyId());
         log.info("[updateFamilyStatus] 이후 가족 상태: {}", newStatus);
     }
 }
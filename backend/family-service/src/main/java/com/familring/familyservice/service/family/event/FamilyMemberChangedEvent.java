@@ -0,0 +1,16 @@
+package com.familring.familyservice.service.family.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class FamilyMemberChangedEvent extends ApplicationEvent {
+    private final Long familyId;
+    private final Long userId; // 가족을 생성, 가입, 탈퇴한 회원
+
+    public FamilyMemberChangedEvent(Object source, Long familyId, Long userId) {
+        super(source);
+        this.familyId = familyId;
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,21 @@
+package com.familring.familyservice.service.family.event;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+// 가족 생성, 가입, 탈퇴를 다른 서비스(api-gateway 가족 정보 캐시)에 알리는 Spring Cloud Bus 이벤트
+// 이벤트 type 은 클래스 이름으로 구분하므로 수신하는 쪽 이벤트와 클래스 이름, 필드를 맞춰야 함
+@Getter
+@NoArgsConstructor
+public class FamilyMembershipChangedEvent extends RemoteApplicationEvent {
+    private Long userId;
+    private Long familyId;
+
+    public FamilyMembershipChangedEvent(Object source, String originService, Destination destination, Long userId, Long familyId) {
+        super(source, originService, destination);
+        this.userId = userId;
+        this.familyId = familyId;
+    }
+}
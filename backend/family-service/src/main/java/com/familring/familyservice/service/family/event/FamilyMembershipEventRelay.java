@@ -0,0 +1,28 @@
+package com.familring.familyservice.service.family.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 가족 구성원 변경을 Bus 로 전달
+// 커밋 전에 전달하면 gateway 가 변경 전 가족 정보를 다시 캐시할 수 있으므로 커밋 후 전달
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class FamilyMembershipEventRelay {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final BusProperties busProperties;
+    private final Destination.Factory destinationFactory;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleFamilyMemberChanged(FamilyMemberChangedEvent event) {
+        log.info("[handleFamilyMemberChanged] 가족 구성원 변경 Bus 전송 familyId={}, userId={}", event.getFamilyId(), event.getUserId());
+        eventPublisher.publishEvent(new FamilyMembershipChangedEvent(this, busProperties.getId(),
+                destinationFactory.getDestination(null), event.getUserId(), event.getFamilyId()));
+    }
+}
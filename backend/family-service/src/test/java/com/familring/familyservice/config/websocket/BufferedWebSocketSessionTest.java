@@ -0,0 +1,139 @@
+package com.familring.familyservice.config.websocket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BufferedWebSocketSessionTest {
+
+    private static final TextMessage READ_STATUS_1 = frame("/room/1/readStatus", "{\"seq\":1}");
+    private static final TextMessage READ_STATUS_2 = frame("/room/1/readStatus", "{\"seq\":2}");
+    private static final TextMessage READ_STATUS_3 = frame("/room/1/readStatus", "{\"seq\":3}");
+    private static final TextMessage CHAT_1 = frame("/room/1", "{\"chatId\":\"a\"}");
+    private static final TextMessage CHAT_2 = frame("/room/1", "{\"chatId\":\"b\"}");
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WebSocketSession delegate = mock(WebSocketSession.class);
+    private final List<Runnable> sendTasks = new ArrayList<>();
+    private final Executor manualExecutor = sendTasks::add;
+
+    private SlowConsumerPolicy policy;
+
+    @AfterEach
+    void tearDown() {
+        if (policy != null) {
+            policy.shutdown();
+        }
+    }
+
+    @Test
+    void sendMessage_dropsOldestReadStatusWhenBufferIsFull() throws Exception {
+        // 읽음 상태 프레임 2개까지만 버퍼에 들어가는 크기
+        BufferedWebSocketSession session = session(10_000, READ_STATUS_1.getPayloadLength() * 2 + 1);
+
+        session.sendMessage(READ_STATUS_1);
+        session.sendMessage(READ_STATUS_2);
+        session.sendMessage(READ_STATUS_3);
+        runSendTasks();
+
+        ArgumentCaptor<WebSocketMessage<?>> sent = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(delegate, times(2)).sendMessage(sent.capture());
+        assertThat(sent.getAllValues()).containsExactly(READ_STATUS_2, READ_STATUS_3);
+        verify(delegate, never()).close(any());
+        assertThat(meterRegistry.counter("familring.websocket.dropped", "frame", "readStatus").count()).isEqualTo(1);
+    }
+
+    @Test
+    void sendMessage_dropsNewReadStatusWhenOnlyChatFramesAreQueued() throws Exception {
+        BufferedWebSocketSession session = session(10_000, CHAT_1.getPayloadLength() + 1);
+
+        session.sendMessage(CHAT_1);
+        session.sendMessage(READ_STATUS_1);
+        runSendTasks();
+
+        ArgumentCaptor<WebSocketMessage<?>> sent = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(delegate, times(1)).sendMessage(sent.capture());
+        assertThat(sent.getAllValues()).containsExactly(CHAT_1);
+        verify(delegate, never()).close(any());
+        assertThat(meterRegistry.counter("familring.websocket.dropped", "frame", "readStatus").count()).isEqualTo(1);
+    }
+
+    @Test
+    void sendMessage_disconnectsWhenChatFrameExceedsBuffer() throws Exception {
+        BufferedWebSocketSession session = session(10_000, CHAT_1.getPayloadLength() + 1);
+
+        session.sendMessage(CHAT_1);
+        session.sendMessage(CHAT_2);
+
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.counter("familring.websocket.forced.disconnect", "reason", "buffer").count()).isEqualTo(1);
+
+        // 종료된 세션에는 더 이상 전송하지 않음
+        session.sendMessage(CHAT_1);
+        runSendTasks();
+        verify(delegate, never()).sendMessage(any());
+    }
+
+    @Test
+    void checkSendTimeout_disconnectsSessionStuckInSend() throws Exception {
+        CountDownLatch sendStarted = new CountDownLatch(1);
+        CountDownLatch releaseSend = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sendStarted.countDown();
+            releaseSend.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(delegate).sendMessage(any());
+
+        policy = new SlowConsumerPolicy(meterRegistry, 1_000, 10_000, 65_536, 1);
+        BufferedWebSocketSession session = new BufferedWebSocketSession(delegate, policy, runnable -> new Thread(runnable).start());
+
+        session.sendMessage(CHAT_1);
+        assertThat(sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 제한 시간 전에는 종료하지 않음
+        session.checkSendTimeout(System.currentTimeMillis());
+        verify(delegate, never()).close(any());
+
+        // 다음 프레임이 오지 않아도 watchdog 확인으로 종료
+        session.checkSendTimeout(System.currentTimeMillis() + 1_001);
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.counter("familring.websocket.forced.disconnect", "reason", "timeout").count()).isEqualTo(1);
+
+        releaseSend.countDown();
+    }
+
+    private BufferedWebSocketSession session(long sendTimeLimitMs, int sendBufferSizeLimit) {
+        policy = new SlowConsumerPolicy(meterRegistry, sendTimeLimitMs, sendBufferSizeLimit, 65_536, 1);
+        return new BufferedWebSocketSession(delegate, policy, manualExecutor);
+    }
+
+    private void runSendTasks() {
+        while (!sendTasks.isEmpty()) {
+            sendTasks.remove(0).run();
+        }
+    }
+
+    private static TextMessage frame(String destination, String body) {
+        return new TextMessage("MESSAGE\ndestination:" + destination + "\ncontent-type:application/json\n\n" + body + "\u0000");
+    }
+}
@@ -0,0 +1,47 @@
+package com.familring.familyservice.service.chat.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingListTest {
+
+    @Test
+    void decode_returnsAddedOrdinalsInOrder() {
+        PostingList postingList = new PostingList();
+        int[] ordinals = {0, 1, 2, 127, 128, 300, 16_383, 16_384, 2_097_152, Integer.MAX_VALUE};
+        for (int ordinal : ordinals) {
+            postingList.add(ordinal);
+        }
+
+        assertThat(postingList.decode()).containsExactly(ordinals);
+        assertThat(postingList.size()).isEqualTo(ordinals.length);
+    }
+
+    @Test
+    void add_ignoresDuplicateAndSmallerOrdinals() {
+        PostingList postingList = new PostingList();
+        postingList.add(5);
+        postingList.add(5);
+        postingList.add(3);
+        postingList.add(6);
+
+        assertThat(postingList.decode()).containsExactly(5, 6);
+    }
+
+    @Test
+    void sizeInBytes_growsByVarintLength() {
+        PostingList postingList = new PostingList();
+        postingList.add(0);      // delta 1 -> 1 byte
+        postingList.add(128);    // delta 128 -> 2 byte
+        postingList.add(16_512); // delta 16384 -> 3 byte
+
+        assertThat(postingList.sizeInBytes()).isEqualTo(6);
+        assertThat(postingList.decode()).containsExactly(0, 128, 16_512);
+    }
+
+    @Test
+    void decode_emptyList() {
+        assertThat(new PostingList().decode()).isEmpty();
+    }
+}
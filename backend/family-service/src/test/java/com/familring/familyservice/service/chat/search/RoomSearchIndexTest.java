@@ -0,0 +1,92 @@
+package com.familring.familyservice.service.chat.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomSearchIndexTest {
+
+    @Test
+    void findCandidates_returnsChatsContainingEveryGramNewestFirst() {
+        RoomSearchIndex index = new RoomSearchIndex();
+        index.add("a", 1L, "오늘 저녁 뭐 먹어");
+        index.add("b", 2L, "저녁은 집에서");
+        index.add("c", 3L, "내일 점심");
+        index.add("d", 4L, "저녁 메뉴 투표");
+
+        int[] candidates = index.findCandidates(RoomSearchIndex.normalize("저녁"), Integer.MAX_VALUE);
+
+        assertThat(candidates).containsExactly(3, 1, 0);
+        assertThat(index.getChatId(candidates[0])).isEqualTo("d");
+    }
+
+    @Test
+    void findCandidates_intersectsAllGrams() {
+        RoomSearchIndex index = new RoomSearchIndex();
+        index.add("a", 1L, "ab");
+        index.add("b", 2L, "bc");
+        index.add("c", 3L, "abc");
+
+        assertThat(index.findCandidates("abc", Integer.MAX_VALUE)).containsExactly(2);
+        assertThat(index.findCandidates("bc", Integer.MAX_VALUE)).containsExactly(2, 1);
+        assertThat(index.findCandidates("abd", Integer.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void findCandidates_onlyBeforeCursor() {
+        RoomSearchIndex index = new RoomSearchIndex();
+        index.add("a", 1L, "hello");
+        index.add("b", 2L, "hello");
+        index.add("c", 3L, "hello");
+
+        assertThat(index.findCandidates("hello", 2)).containsExactly(1, 0);
+    }
+
+    @Test
+    void findCandidates_singleCharacterUsesUnigram() {
+        RoomSearchIndex index = new RoomSearchIndex();
+        index.add("a", 1L, "밥");
+        index.add("b", 2L, "국밥 먹자");
+        index.add("c", 3L, "라면");
+
+        assertThat(index.findCandidates("밥", Integer.MAX_VALUE)).containsExactly(1, 0);
+    }
+
+    @Test
+    void normalize_removesWhitespaceAndLowercases() {
+        assertThat(RoomSearchIndex.normalize(" Hello  World\n")).isEqualTo("helloworld");
+        assertThat(RoomSearchIndex.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void add_skipsAlreadyIndexedSeq() {
+        RoomSearchIndex index = new RoomSearchIndex();
+        index.add("a", 1L, "hello");
+        index.add("a", 1L, "hello");
+
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void add_indexesOutOfOrderSeqWithinReplayWindow() {
+        RoomSearchIndex index = new RoomSearchIndex();
+        index.add("a", 1L, "hello");
+        index.add("c", 3L, "hello");
+        index.add("b", 2L, "hello");
+        index.add("c", 3L, "hello");
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.replayFrom()).isZero();
+    }
+
+    @Test
+    void add_skipsSeqOlderThanReplayWindow() {
+        RoomSearchIndex index = new RoomSearchIndex();
+        long lastSeq = RoomSearchIndex.REPLAY_WINDOW + 10L;
+        index.add("last", lastSeq, "hello");
+        index.add("old", 5L, "hello");
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.replayFrom()).isEqualTo(10L);
+    }
+}
@@ -0,0 +1,10 @@
+package com.familring.interestservice.exception;
+
+import com.familring.interestservice.exception.base.ApplicationException;
+import com.familring.interestservice.exception.constant.ErrorDetail;
+
+public class FamilyNotFoundException extends ApplicationException {
+    public FamilyNotFoundException() {
+        super(ErrorDetail.NOT_FOUND_FAMILY);
+    }
+}
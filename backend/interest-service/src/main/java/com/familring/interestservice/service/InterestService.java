@@ -11,6 +11,7 @@ import com.familring.interestservice.exception.*;
 import com.familring.interestservice.repository.InterestAnswerRepository;
 import com.familring.interestservice.repository.InterestMissionRepository;
 import com.familring.interestservice.repository.InterestRepository;
+import com.familring.interestservice.service.client.FamilyIdResolver;
 import com.familring.interestservice.service.client.FamilyServiceFeignClient;
 import com.familring.interestservice.service.client.FileServiceFeignClient;
 import com.familring.interestservice.service.client.NotificationServiceFeignClient;
@@ -41,6 +42,7 @@ public class InterestService {
     private final InterestAnswerRepository interestAnswerRepository;
     private final InterestMissionRepository interestMissionRepository;
     private final FamilyServiceFeignClient familyServiceFeignClient;
+    private final FamilyIdResolver familyIdResolver;
     private final UserServiceFeignClient userServiceFeignClient;
     private final FileServiceFeignClient fileServiceFeignClient;
     private final NotificationServiceFeignClient notificationServiceFeignClient;
@@ -52,8 +54,7 @@ public class InterestService {
     public void createInterestAnswer(Long userId, InterestAnswerCreateRequest interestAnswerCreateRequest) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 그 가족의 최근 관심사 찾기
         LocalDate today = LocalDate.now();
@@ -87,8 +88,7 @@ public class InterestService {
     public void updateInterestAnswer(Long userId, InterestAnswerCreateRequest interestAnswerCreateRequest) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 가장 최근 관심사 찾기
         Interest interest = interestRepository.findFirstByFamilyIdOrderByIdDesc(familyId).orElseThrow(InterestNotFoundException::new);
@@ -105,8 +105,7 @@ public class InterestService {
     public InterestAnswerMineResponse getInterestAnswerMine(Long userId) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 가장 최근 관심사 찾기
         Interest interest = interestRepository.findFirstByFamilyIdOrderByIdDesc(familyId).orElseThrow(InterestNotFoundException::new);
@@ -125,8 +124,7 @@ public class InterestService {
     public InterestAnswerStatusResponse getInterestAnswerStatus(Long userId) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         int cnt = interestRepository.countByFamilyId(familyId);
 
@@ -190,8 +188,7 @@ public class InterestService {
     public List<InterestAnswerResponse> getInterestAnswerList(Long userId) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 가장 최근 관심사 찾기
         Optional<Interest> interestOptional  = interestRepository.findFirstByFamilyIdOrderByIdDesc(familyId);
@@ -238,8 +235,7 @@ public class InterestService {
     // 관심사 선정
     public void createInterestAnswerSelected(Long userId) {
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 가장 최근 관심사 찾기
         Interest interest = interestRepository.findFirstByFamilyIdOrderByIdDesc(familyId).orElseThrow(InterestNotFoundException::new);
@@ -303,8 +299,7 @@ public class InterestService {
     public InterestAnswerSelectedResponse getInterestAnswerSelected(Long userId) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 가장 최근 관심사 찾기
         Interest interest = interestRepository.findFirstByFamilyIdOrderByIdDesc(familyId).orElseThrow(InterestNotFoundException::new);
@@ -342,8 +337,7 @@ public class InterestService {
     public void setInterestMissionPeriod(Long userId, InterestMissionCreatePeriodRequest interestMissionCreatePeriodRequest) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 가장 최근 관심사 찾기
         Interest interest = interestRepository.findTopByFamilyIdWithLock(familyId).orElseThrow(InterestNotFoundException::new);
@@ -382,8 +376,7 @@ public class InterestService {
     public int getInterestMissionDate(Long userId) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 가장 최근 관심사 찾기
         Interest interest = interestRepository.findFirstByFamilyIdOrderByIdDesc(familyId).orElseThrow(InterestNotFoundException::new);
@@ -406,8 +399,7 @@ public class InterestService {
     public void createInterestMission(Long userId, MultipartFile image) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         List<MultipartFile> files = new ArrayList<>();
         files.add(image);
@@ -485,8 +477,7 @@ public class InterestService {
     public List<InterestMissionResponse> getInterestMissionList(Long userId) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 가장 최근 관심사 찾기
         Interest interest = interestRepository.findFirstByFamilyIdOrderByIdDesc(familyId).orElseThrow(InterestNotFoundException::new);
@@ -522,8 +513,7 @@ public class InterestService {
     public InterestListResponse getInterestList(Long userId, int pageNo) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 가족이 생성했던 관심사 전체 조회
         PageRequest pageRequest = PageRequest.of(pageNo, 18); // 18개씩
@@ -572,8 +562,7 @@ public class InterestService {
     public List<InterestDetailResponse> getInterestDetail(Long userId, Long interestId) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 관심사 고유번호, 가족 고유번호 로 관심사 찾기
         Optional<Interest> interest = interestRepository.findByIdAndFamilyId(interestId, familyId);
@@ -607,8 +596,7 @@ public class InterestService {
     // 관심사 상태 관리
     public int getInterestStatus(Long userId) {
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 가장 최근 관심사 찾기
         Optional<Interest> interestOptional = interestRepository.findFirstByFamilyIdOrderByIdDesc(familyId);
@@ -652,8 +640,7 @@ public class InterestService {
     public boolean getInterestMissionMine(Long userId) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 가장 최근 관심사 찾기
         Optional<Interest> interestOptional = interestRepository.findFirstByFamilyIdOrderByIdDesc(familyId);
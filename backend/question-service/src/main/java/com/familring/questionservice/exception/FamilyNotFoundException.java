@@ -0,0 +1,10 @@
+package com.familring.questionservice.exception;
+
+import com.familring.questionservice.exception.base.ApplicationException;
+import com.familring.questionservice.exception.constant.ErrorDetail;
+
+public class FamilyNotFoundException extends ApplicationException {
+    public FamilyNotFoundException() {
+        super(ErrorDetail.NOT_FOUND_FAMILY);
+    }
+}
@@ -15,6 +15,7 @@ import com.familring.questionservice.exception.*;
 import com.familring.questionservice.repository.QuestionAnswerRepository;
 import com.familring.questionservice.repository.QuestionFamilyRepository;
 import com.familring.questionservice.repository.QuestionRepository;
+import com.familring.questionservice.service.client.FamilyIdResolver;
 import com.familring.questionservice.service.client.FamilyServiceFeignClient;
 import com.familring.questionservice.service.client.NotificationServiceFeignClient;
 import com.familring.questionservice.service.client.UserServiceFeignClient;
@@ -42,6 +43,7 @@ public class QuestionService {
     private final QuestionAnswerRepository questionAnswerRepository;
     private final QuestionFamilyRepository questionFamilyRepository;
     private final FamilyServiceFeignClient familyServiceFeignClient;
+    private final FamilyIdResolver familyIdResolver;
     private final UserServiceFeignClient userServiceFeignClient;
     private final NotificationServiceFeignClient notificationServiceFeignClient;
 
@@ -173,8 +175,7 @@ public class QuestionService {
     public void createQuestionAnswer(Long userId, QuestionAnswerCreateRequest questionAnswerCreateRequest) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 가족의 현재 질문 조회
         QuestionFamily questionFamily = questionFamilyRepository.findByFamilyId(familyId)
@@ -205,8 +206,7 @@ public class QuestionService {
     public void updateQuestionAnswer(Long userId, QuestionAnswerUpdateRequest questionAnswerUpdateRequest) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 가족의 현재 질문 조회
         QuestionFamily questionFamily = questionFamilyRepository.findByFamilyId(familyId)
@@ -227,8 +227,7 @@ public class QuestionService {
     public QuestionResponse getQuestion(Long userId, Long questionId) {
 
         // 가족 정보 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         Question question;
         QuestionFamily questionFamily;
@@ -307,8 +306,7 @@ public class QuestionService {
 
         // 가족이 몇 번째 질문까지 했는지 확인해서
         // 가족 정보 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 몇 번째 질문인지 (가족에 대한 질문 정보 가져오기)
         QuestionFamily questionFamily = questionFamilyRepository.findByFamilyId(familyId)
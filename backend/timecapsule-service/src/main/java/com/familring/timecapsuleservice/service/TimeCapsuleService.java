@@ -2,7 +2,6 @@ package com.familring.timecapsuleservice.service;
 
 import com.familring.timecapsuleservice.domain.TimeCapsule;
 import com.familring.timecapsuleservice.domain.TimeCapsuleAnswer;
-import com.familring.timecapsuleservice.dto.client.Family;
 import com.familring.timecapsuleservice.dto.client.FamilyStatusRequest;
 import com.familring.timecapsuleservice.dto.client.UserInfoResponse;
 import com.familring.timecapsuleservice.dto.request.TimeCapsuleAnswerCreateRequest;
@@ -15,6 +14,7 @@ import com.familring.timecapsuleservice.exception.*;
 import com.familring.timecapsuleservice.exception.client.FamilyNotFoundException;
 import com.familring.timecapsuleservice.repository.TimeCapsuleAnswerRepository;
 import com.familring.timecapsuleservice.repository.TimeCapsuleRepository;
+import com.familring.timecapsuleservice.service.client.FamilyIdResolver;
 import com.familring.timecapsuleservice.service.client.FamilyServiceFeignClient;
 import com.familring.timecapsuleservice.service.client.UserServiceFeignClient;
 import com.familring.timecapsuleservice.service.job.TimeCapsuleNotificationJob;
@@ -46,6 +46,7 @@ public class TimeCapsuleService {
     private final TimeCapsuleRepository timeCapsuleRepository;
     private final TimeCapsuleAnswerRepository timeCapsuleAnswerRepository;
     private final FamilyServiceFeignClient familyServiceFeignClient;
+    private final FamilyIdResolver familyIdResolver;
     private final UserServiceFeignClient userServiceFeignClient;
     private final Scheduler notificationScheduler;
 
@@ -54,14 +55,12 @@ public class TimeCapsuleService {
         TimeCapsuleStatusResponse response = null;
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
-        if (family == null) {
+        if (familyId == null) {
             throw new FamilyNotFoundException();
         }
 
-        Long familyId = family.getFamilyId();
-
         // 1. 작성할 수 있는 타임캡슐이 아예 없는 경우 (0)
         // 그 가족의 가장 최근의 타임캡슐을 찾아와서
         Optional<TimeCapsule> timeCapsuleOpt = timeCapsuleRepository.findFirstByFamilyIdOrderByIdDesc(familyId);
@@ -126,8 +125,7 @@ public class TimeCapsuleService {
     // 타임캡슐 생성
     public void createTimeCapsule(Long userId, TimeCapsuleCreateRequest timeCapsuleCreateRequest) {
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 그 가족의 가장 최근의 타임캡슐을 찾아와서
         Optional<TimeCapsule> timeCapsuleOpt = timeCapsuleRepository.findFirstByFamilyIdOrderByIdDesc(familyId);
@@ -191,8 +189,7 @@ public class TimeCapsuleService {
     // 타임캡슐 답변 생성
     public void createTimeCapsuleAnswer(Long userId, TimeCapsuleAnswerCreateRequest timeCapsuleAnswerCreateRequest) {
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         // 가장 최근 타임 캡슐을 조회했을 때 있을 때만 생성 가능
         // 그 가족의 가장 최근의 타임캡슐을 찾아와서
@@ -241,8 +238,7 @@ public class TimeCapsuleService {
     public TimeCapsuleListResponse getTimeCapsuleList(Long userId, int pageNo) {
 
         // 가족 조회
-        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
-        Long familyId = family.getFamilyId();
+        Long familyId = familyIdResolver.getFamilyId(userId);
 
         PageRequest pageRequest = PageRequest.of(pageNo, 18); // 18개씩
         Slice<TimeCapsule> timeCapsuleSlice = timeCapsuleRepository.findTimeCapsulesByFamilyIdOrderByStartDateDesc(familyId, pageRequest);
@@ -0,0 +1,30 @@
+package com.familring.timecapsuleservice.service.client;
+
+import com.familring.common_module.client.FamilyIdHeader;
+import com.familring.timecapsuleservice.dto.client.Family;
+import com.familring.timecapsuleservice.exception.client.FamilyNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 회원의 familyId 조회
+// api-gateway 가 전달한 X-Family-ID 헤더를 사용하고, 헤더가 없으면(가족이 없는 회원, 내부 호출, 스케줄러) family-service 에 조회
+@Component
+@RequiredArgsConstructor
+public class FamilyIdResolver {
+
+    private final FamilyServiceFeignClient familyServiceFeignClient;
+
+    // 가족이 없는 회원이면 FamilyNotFoundException
+    public Long getFamilyId(Long userId) {
+        Long familyId = FamilyIdHeader.find(userId);
+        if (familyId != null) {
+            return familyId;
+        }
+
+        Family family = familyServiceFeignClient.getFamilyInfo(userId).getData();
+        if (family == null || family.getFamilyId() == null) {
+            throw new FamilyNotFoundException();
+        }
+        return family.getFamilyId();
+    }
+}
@@ -3,12 +3,16 @@ package com.familring.userservice;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableDiscoveryClient
 @EnableFeignClients
+@RemoteApplicationEventScan(basePackages = "com.familring.userservice.service.cache.event")
+@EnableScheduling
 @MapperScan("com.familring.userservice.model.dao")
 public class UserServiceApplication {
 
@@ -1,5 +1,8 @@
 package com.familring.userservice.config.redis;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface RedisService {
     // refreshToken 저장
     void saveRefreshToken(String userName, String refreshToken);
@@ -9,4 +12,22 @@ public interface RedisService {
     
     // refreshToken 삭제
     void deleteRefreshToken(String userName);
+
+    // 안읽음 알림 수 변경 (0 미만이 되지 않도록), Redis 에 값이 없으면 seed(MySQL 값)로 시작
+    // seed 없이 호출했는데 Redis 에 값이 없으면 null
+    Integer addUnReadCount(Long userId, int amount, Integer seed);
+
+    // 안읽음 알림 수 조회 (Redis 에 값이 없으면 null / 결과에서 제외)
+    Integer getUnReadCount(Long userId);
+    Map<Long, Integer> getUnReadCounts(Collection<Long> userIds);
+
+    // MySQL 에 반영할 안읽음 알림 수를 최대 count 명까지 꺼내기
+    Map<Long, Integer> popDirtyUnReadCounts(int count);
+
+    // MySQL 반영에 실패한 회원을 다시 반영 대상으로 등록
+    void markUnReadCountsDirty(Collection<Long> userIds);
+
+    // 안읽음 알림 수 반영은 한 번에 한 서버만 (ttlMs 후 자동 해제), 잠금을 얻지 못하면 null
+    String tryLockUnReadCountFlush(long ttlMs);
+    void unlockUnReadCountFlush(String token);
 }
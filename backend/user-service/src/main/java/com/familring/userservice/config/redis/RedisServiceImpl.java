@@ -4,8 +4,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -13,6 +19,31 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class RedisServiceImpl implements RedisService {
 
+    private static final String UN_READ_COUNT_KEY = "UnReadCount:";
+    private static final String UN_READ_COUNT_DIRTY_KEY = "UnReadCount:dirty";
+    private static final String UN_READ_COUNT_FLUSH_LOCK_KEY = "UnReadCount:flush-lock";
+
+    // 안읽음 알림 수 증감 (0 미만이면 0), 값이 없으면 ARGV[2](seed) 부터 시작하고 seed 도 없으면 -1
+    // 변경한 회원은 MySQL 반영 대상(dirty)으로 등록
+    private static final RedisScript<Long> ADD_UN_READ_COUNT_SCRIPT = RedisScript.of(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if not current then " +
+            "  if ARGV[2] == '' then return -1 end " +
+            "  current = ARGV[2] " +
+            "end " +
+            "local value = tonumber(current) + tonumber(ARGV[1]) " +
+            "if value < 0 then value = 0 end " +
+            "redis.call('SET', KEYS[1], value) " +
+            "redis.call('SADD', KEYS[2], ARGV[3]) " +
+            "return value", Long.class);
+
+    // 잠금을 건 flusher 의 토큰과 같을 때만 해제 (만료 후 다른 flusher 가 건 잠금은 유지)
+    private static final RedisScript<Long> UNLOCK_UN_READ_COUNT_FLUSH_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0", Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
     @Value("${jwt.refresh-token.expiretime}")
     private long refreshTokenExpireTime;
@@ -36,4 +67,73 @@ public class RedisServiceImpl implements RedisService {
     public void deleteRefreshToken(String userName) {
         redisTemplate.delete("RefreshToken:" + userName);
     }
+
+    @Override
+    public Integer addUnReadCount(Long userId, int amount, Integer seed) {
+        Long value = redisTemplate.execute(ADD_UN_READ_COUNT_SCRIPT,
+                List.of(UN_READ_COUNT_KEY + userId, UN_READ_COUNT_DIRTY_KEY),
+                String.valueOf(amount), seed == null ? "" : String.valueOf(seed), String.valueOf(userId));
+        return value == null || value < 0 ? null : value.intValue();
+    }
+
+    @Override
+    public Integer getUnReadCount(Long userId) {
+        String value = redisTemplate.opsForValue().get(UN_READ_COUNT_KEY + userId);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    @Override
+    public Map<Long, Integer> getUnReadCounts(Collection<Long> userIds) {
+        Map<Long, Integer> unReadCounts = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return unReadCounts;
+        }
+
+        List<Long> ids = List.copyOf(userIds);
+        List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(userId -> UN_READ_COUNT_KEY + userId).toList());
+        for (int i = 0; values != null && i < ids.size(); i++) {
+            if (values.get(i) != null) {
+                unReadCounts.put(ids.get(i), Integer.valueOf(values.get(i)));
+            }
+        }
+        return unReadCounts;
+    }
+
+    @Override
+    public Map<Long, Integer> popDirtyUnReadCounts(int count) {
+        // 스크립트 안에서 키 이름을 만들면 클러스터에서 슬롯을 알 수 없으므로 꺼낸 뒤 값은 키를 넘겨 조회
+        List<String> userIds = redisTemplate.opsForSet().pop(UN_READ_COUNT_DIRTY_KEY, count);
+        if (userIds == null || userIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        List<Long> ids = userIds.stream().map(Long::valueOf).toList();
+        try {
+            return getUnReadCounts(ids);
+        } catch (RuntimeException e) {
+            // 꺼낸 회원이 반영 대상에서 빠지지 않도록 되돌림
+            markUnReadCountsDirty(ids);
+            throw e;
+        }
+    }
+
+    @Override
+    public void markUnReadCountsDirty(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(UN_READ_COUNT_DIRTY_KEY, userIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    @Override
+    public String tryLockUnReadCountFlush(long ttlMs) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(UN_READ_COUNT_FLUSH_LOCK_KEY, token, ttlMs, TimeUnit.MILLISECONDS);
+        return Boolean.TRUE.equals(locked) ? token : null;
+    }
+
+    @Override
+    public void unlockUnReadCountFlush(String token) {
+        redisTemplate.execute(UNLOCK_UN_READ_COUNT_FLUSH_SCRIPT, List.of(UN_READ_COUNT_FLUSH_LOCK_KEY), token);
+    }
 }
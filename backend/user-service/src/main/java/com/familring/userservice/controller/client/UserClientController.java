@@ -1,6 +1,7 @@
 package com.familring.userservice.controller.client;
 
 import com.familring.common_module.dto.BaseResponse;
+import com.familring.userservice.model.dto.UserProjection;
 import com.familring.userservice.model.dto.request.UnReadCountRequest;
 import com.familring.userservice.model.dto.response.UserInfoResponse;
 import com.familring.userservice.service.UserService;
@@ -23,9 +24,10 @@ public class UserClientController {
     private final UserService userService;
 
     @PostMapping
-    public ResponseEntity<BaseResponse<List<UserInfoResponse>>> getAllUser(@RequestBody List<Long> userIds) {
-        log.info("userIds: {}", userIds);
-        List<UserInfoResponse> response = userService.getAllUser(userIds);
+    public ResponseEntity<BaseResponse<List<UserInfoResponse>>> getAllUser(@RequestBody List<Long> userIds,
+                                                                           @RequestParam(name = "fields", defaultValue = "FULL") UserProjection projection) {
+        log.info("userIds: {}, fields: {}", userIds, projection);
+        List<UserInfoResponse> response = userService.getAllUser(userIds, projection);
 
         return ResponseEntity.ok(BaseResponse.create(HttpStatus.OK.value(), "회원 정보를 모두 성공적으로 조회 했습니다.", response));
     }
@@ -5,6 +5,8 @@ import com.familring.userservice.model.dto.request.UserDeleteRequest;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Mapper
@@ -15,6 +17,7 @@ public interface UserDao {
     // 회원 정보 조회
     Optional<UserDto> findUserByUserKakaoId(@Param("userKakaoId") String userKakaoId);
     Optional<UserDto> findUserByUserId(@Param("userId") Long userId);
+    List<UserDto> findUsersByUserIds(@Param("userIds") List<Long> userIds, @Param("profileOnly") boolean profileOnly);
     boolean existsUserByUserKakaoId(@Param("userKakaoId") String userKakaoId);
 
     // FCM 토큰 저장
@@ -32,8 +35,8 @@ public interface UserDao {
     // 회원 얼굴 사진 변경
     void updateUserFaceByUserId(@Param("userId") Long userId,@Param("userNewFace") String newFace);
 
-    // 회원 안읽음 알림 수 변경
-    void updateUserUnReadCountByUserId(@Param("userId") Long userId, @Param("newUnReadCount") int newUnReadCount);
+    // 회원 안읽음 알림 수 변경 (Redis 값을 여러 회원 한 번에 반영)
+    void updateUserUnReadCounts(@Param("unReadCounts") Map<Long, Integer> unReadCounts);
     
     // 회원 탈퇴
     void deleteUser(UserDeleteRequest deleteRequest);
@@ -0,0 +1,7 @@
+package com.familring.userservice.model.dto;
+
+// 여러 회원 조회 시 가져올 컬럼 범위
+public enum UserProjection {
+    FULL,       // 전체 (FCM 토큰, 안읽음 알림 수 포함)
+    PROFILE     // 프로필 (닉네임, 띠, 배경색, 얼굴, 기분 등 화면 표시용)
+}
@@ -7,6 +7,7 @@ import com.familring.userservice.model.dto.FamilyRole;
 import com.familring.userservice.model.dto.UserDto;
 import com.familring.userservice.model.dto.request.UserDeleteRequest;
 import com.familring.userservice.model.dto.request.UserJoinRequest;
+import com.familring.userservice.service.cache.UserProfileCache;
 import com.familring.userservice.service.client.FamilyServiceFeignClient;
 import com.familring.userservice.service.client.FileServiceFeignClient;
 import com.github.usingsky.calendar.KoreanLunarCalendar;
@@ -36,13 +37,14 @@ public class CustomUserDetailsServiceImpl implements CustomUserDetailsService {
     private final FileServiceFeignClient fileServiceFeignClient;
     private final FamilyServiceFeignClient familyServiceFeignClient;
     private final RedisService redisService;
+    private final UserProfileCache userProfileCache;
 
     @Value("${cloud.aws.s3.url}")
     private String s3Url;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userDao.findUserByUserKakaoId(username)
+        return userProfileCache.findByKakaoId(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
     }
 
@@ -198,6 +200,7 @@ public class CustomUserDetailsServiceImpl implements CustomUserDetailsService {
 
         // 5. user 테이블 수정
         userDao.deleteUser(deleteRequest);
+        userProfileCache.evict(user.getUserId());
         log.info("user 테이블 수정 완료");
 
         // 6. 가족 구성원 제거
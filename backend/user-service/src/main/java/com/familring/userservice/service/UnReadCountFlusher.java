@@ -0,0 +1,99 @@
+package com.familring.userservice.service;
+
+import com.familring.userservice.config.redis.RedisService;
+import com.familring.userservice.model.dao.UserDao;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// Redis 안읽음 알림 수를 주기적으로 user_un_read_count 에 반영
+// 알림마다 MySQL 을 수정하지 않고, 그동안 바뀐 회원만 batch-size 명씩 한 번의 UPDATE 로 반영
+// 여러 서버가 동시에 반영하면 늦게 읽은 값이 먼저 쓰일 수 있으므로 Redis 잠금으로 한 서버만 반영
+@Component
+@Log4j2
+public class UnReadCountFlusher {
+
+    private final RedisService redisService;
+    private final UserDao userDao;
+    private final int batchSize;
+    private final long lockTtlMs;
+    private final Counter flushedCounter;
+
+    public UnReadCountFlusher(RedisService redisService, UserDao userDao, MeterRegistry meterRegistry,
+                              @Value("${familring.user.unread.flush-batch-size:500}") int batchSize,
+                              @Value("${familring.user.unread.flush-lock-ttl-ms:30000}") long lockTtlMs) {
+        this.redisService = redisService;
+        this.userDao = userDao;
+        this.batchSize = batchSize;
+        this.lockTtlMs = lockTtlMs;
+        this.flushedCounter = Counter.builder("familring.user.unread.flushed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${familring.user.unread.flush-interval-ms:5000}")
+    public void flush() {
+        String lockToken;
+        try {
+            lockToken = redisService.tryLockUnReadCountFlush(lockTtlMs);
+        } catch (Exception e) {
+            log.warn("[flush] 안읽음 알림 수 반영 잠금 실패", e);
+            return;
+        }
+        if (lockToken == null) {
+            // 다른 서버가 반영 중
+            return;
+        }
+
+        try {
+            flushDirtyUnReadCounts();
+        } finally {
+            try {
+                redisService.unlockUnReadCountFlush(lockToken);
+            } catch (Exception e) {
+                log.warn("[flush] 안읽음 알림 수 반영 잠금 해제 실패", e);
+            }
+        }
+    }
+
+    private void flushDirtyUnReadCounts() {
+        // 잠금이 만료되기 전에 멈추고 남은 회원은 다음 주기에 반영
+        long deadline = System.currentTimeMillis() + lockTtlMs / 2;
+        while (System.currentTimeMillis() < deadline) {
+            Map<Long, Integer> unReadCounts;
+            try {
+                unReadCounts = redisService.popDirtyUnReadCounts(batchSize);
+            } catch (Exception e) {
+                log.warn("[flush] 반영할 안읽음 알림 수 조회 실패", e);
+                return;
+            }
+            if (unReadCounts.isEmpty()) {
+                return;
+            }
+
+            try {
+                userDao.updateUserUnReadCounts(unReadCounts);
+                flushedCounter.increment(unReadCounts.size());
+            } catch (Exception e) {
+                // 다음 주기에 다시 반영
+                log.warn("[flush] 안읽음 알림 수 반영 실패 users={}", unReadCounts.size(), e);
+                redisService.markUnReadCountsDirty(unReadCounts.keySet());
+                return;
+            }
+
+            if (unReadCounts.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 종료 전 남은 변경 반영
+        flush();
+    }
+}
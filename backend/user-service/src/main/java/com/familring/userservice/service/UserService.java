@@ -1,5 +1,6 @@
 package com.familring.userservice.service;
 
+import com.familring.userservice.model.dto.UserProjection;
 import com.familring.userservice.model.dto.request.*;
 import com.familring.userservice.model.dto.response.JwtTokenResponse;
 import com.familring.userservice.model.dto.response.UserInfoResponse;
@@ -12,6 +13,7 @@ public interface UserService {
     UserInfoResponse getUser(String userName);
     UserInfoResponse getUser(Long userId);
     List<UserInfoResponse> getAllUser(List<Long> userIds);
+    List<UserInfoResponse> getAllUser(List<Long> userIds, UserProjection projection);
 
     // 로그인
     JwtTokenResponse login(UserLoginRequest userLogInRequest);
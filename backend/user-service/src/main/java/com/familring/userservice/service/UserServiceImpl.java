@@ -7,14 +7,17 @@ import com.familring.userservice.exception.token.InvalidRefreshTokenException;
 import com.familring.userservice.exception.user.AlreadyUserException;
 import com.familring.userservice.model.dao.UserDao;
 import com.familring.userservice.model.dto.UserDto;
+import com.familring.userservice.model.dto.UserProjection;
 import com.familring.userservice.model.dto.request.*;
 import com.familring.userservice.model.dto.response.JwtTokenResponse;
 import com.familring.userservice.model.dto.response.UserInfoResponse;
+import com.familring.userservice.service.cache.UserProfileCache;
 import com.familring.userservice.service.client.AlbumServiceFeignClient;
 import com.familring.userservice.service.client.FileServiceFeignClient;
 import com.familring.userservice.service.jwt.JwtTokenService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -24,6 +27,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -39,12 +43,17 @@ public class UserServiceImpl implements UserService {
     private final RedisService redisService;
 
     private final FileServiceFeignClient fileServiceFeignClient;
+    private final UserProfileCache userProfileCache;
+
+    // 여러 회원 조회 시 IN 절 하나에 넣는 최대 userId 수
+    @Value("${familring.user.bulk.max-batch-size:500}")
+    private int maxBulkBatchSize;
 
     @Override
     public UserInfoResponse getUser(String userName) {
         log.info("userName: {}", userName);
-        // 1. 회원 정보 찾기
-        UserDto user = userDao.findUserByUserKakaoId(userName)
+        // 1. 회원 정보 찾기 (캐시)
+        UserDto user = userProfileCache.findByKakaoId(userName)
                 .orElseThrow(() -> {
                     UsernameNotFoundException usernameNotFoundException = new UsernameNotFoundException("UserKakaoId(" + userName + ")로 회원을 찾을 수 없습니다.");
                     return new ResponseStatusException(HttpStatus.NOT_FOUND, usernameNotFoundException.getMessage(), usernameNotFoundException);
@@ -70,8 +79,8 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserInfoResponse getUser(Long userId) {
-        // 1. 회원 정보 찾기
-        UserDto user = userDao.findUserByUserId(userId)
+        // 1. 회원 정보 찾기 (캐시)
+        UserDto user = userProfileCache.findByUserId(userId)
                 .orElseThrow(() -> {
                     UsernameNotFoundException usernameNotFoundException = new UsernameNotFoundException("UserId(" + userId + ")로 회원을 찾을 수 없습니다.");
                     return new ResponseStatusException(HttpStatus.NOT_FOUND, usernameNotFoundException.getMessage(), usernameNotFoundException);
@@ -89,7 +98,7 @@ public class UserServiceImpl implements UserService {
                 .userColor(user.getUserColor())
                 .userEmotion(user.getUserEmotion())
                 .userFcmToken(user.getUserFcmToken())
-                .userUnReadCount(user.getUserUnReadCount())
+                .userUnReadCount(getUnReadCount(user))
                 .build();
 
         // 3. 응답
@@ -98,18 +107,60 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public List<UserInfoResponse> getAllUser(List<Long> userIds) {
-        // 1. 응답 생성
-        List<UserInfoResponse> responseList = new ArrayList<>();
+        return getAllUser(userIds, UserProjection.FULL);
+    }
 
-        // 2. 각 userId별 메소드 호출
+    @Override
+    public List<UserInfoResponse> getAllUser(List<Long> userIds, UserProjection projection) {
+        // 1. 중복을 제외하고 캐시에 없는 회원만 max-batch-size 개씩 IN 조회
+        List<Long> distinctUserIds = userIds.stream().distinct().toList();
+        boolean profileOnly = projection == UserProjection.PROFILE;
+        Map<Long, UserDto> users = userProfileCache.findAllByUserIds(distinctUserIds, profileOnly, misses -> {
+            List<UserDto> loaded = new ArrayList<>(misses.size());
+            for (int from = 0; from < misses.size(); from += maxBulkBatchSize) {
+                loaded.addAll(userDao.findUsersByUserIds(misses.subList(from, Math.min(from + maxBulkBatchSize, misses.size())), profileOnly));
+            }
+            return loaded;
+        });
+
+        // 2. 안읽음 알림 수는 Redis 값 우선
+        Map<Long, Integer> unReadCounts = profileOnly ? Map.of() : redisService.getUnReadCounts(distinctUserIds);
+
+        // 3. 요청한 userId 순서대로 응답 생성 (없는 회원이 있으면 단건 조회와 같이 404)
+        // 캐시에서 찾은 회원은 전체 컬럼이 있으므로 PROFILE 조회면 프로필 외 필드는 비워서 응답
+        List<UserInfoResponse> responseList = new ArrayList<>(userIds.size());
         for (Long userId : userIds) {
-            responseList.add(getUser(userId));
+            UserDto user = users.get(userId);
+            if (user == null) {
+                UsernameNotFoundException usernameNotFoundException = new UsernameNotFoundException("UserId(" + userId + ")로 회원을 찾을 수 없습니다.");
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, usernameNotFoundException.getMessage(), usernameNotFoundException);
+            }
+
+            responseList.add(UserInfoResponse.builder()
+                    .userId(user.getUserId())
+                    .userKakaoId(user.getUserKakaoId())
+                    .userNickname(user.getUserNickname())
+                    .userBirthDate(user.getUserBirthDate())
+                    .userZodiacSign(user.getUserZodiacSign())
+                    .userRole(user.getUserRole())
+                    .userFace(user.getUserFace())
+                    .userColor(user.getUserColor())
+                    .userEmotion(user.getUserEmotion())
+                    .userFcmToken(profileOnly ? null : user.getUserFcmToken())
+                    .userUnReadCount(profileOnly ? null : unReadCounts.getOrDefault(userId, user.getUserUnReadCount()))
+                    .build());
         }
 
-        // 3. 응답
+        // 4. 응답
         return responseList;
     }
 
+    // 안읽음 알림 수 (아직 MySQL 에 반영되지 않은 Redis 값 우선)
+    private Integer getUnReadCount(UserDto user) {
+        Integer unReadCount = redisService.getUnReadCount(user.getUserId());
+        return unReadCount != null ? unReadCount : user.getUserUnReadCount();
+    }
+
     @Override
     @Transactional
     public JwtTokenResponse login(UserLoginRequest userLogInRequest) {
@@ -200,6 +251,7 @@ public class UserServiceImpl implements UserService {
 
         // 2. 찾은 사용자에게 FCM 토큰 저장
         userDao.updateUserFcmTokenByUserId(user.getUserId(), fcmToken);
+        userProfileCache.evict(user.getUserId());
     }
 
     @Override
@@ -229,6 +281,7 @@ public class UserServiceImpl implements UserService {
 
         // 2. 사용자의 기분 변경
         userDao.updateUserEmotionByUserId(user.getUserId(), userEmotionRequest.getUserEmotion());
+        userProfileCache.evict(user.getUserId());
     }
 
     @Override
@@ -243,6 +296,7 @@ public class UserServiceImpl implements UserService {
 
         // 2. 사용자의 닉네임 변경
         userDao.updateUserNicknameByUserId(user.getUserId(), userNickname);
+        userProfileCache.evict(user.getUserId());
 
         albumServiceFeignClient.updatePersonAlbumName(PersonAlbumUpdateRequest.builder().userId(userId).userNickname(userNickname).build());
     }
@@ -259,6 +313,7 @@ public class UserServiceImpl implements UserService {
 
         // 2. 사용자의 닉네임 변경
         userDao.updateUserColorByUserId(user.getUserId(), userColor);
+        userProfileCache.evict(user.getUserId());
     }
 
     @Override
@@ -280,26 +335,27 @@ public class UserServiceImpl implements UserService {
 
         // 4. DB 변경
         userDao.updateUserFaceByUserId(user.getUserId(), newFace);
+        userProfileCache.evict(user.getUserId());
 
     }
 
     @Override
-    @Transactional
     public void updateUserUnReadCount(UnReadCountRequest unReadCountRequest) {
-        // 1. 사용자 정보 찾기
-        UserDto user = userDao.findUserByUserId(unReadCountRequest.getUserId())
-                .orElseThrow(() -> {
-                    UsernameNotFoundException usernameNotFoundException = new UsernameNotFoundException("UserId(" + unReadCountRequest.getUserId() + ")로 회원을 찾을 수 없습니다.");
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, usernameNotFoundException.getMessage(), usernameNotFoundException);
-                });
-        log.info("[updateUserUnReadCount] 찾은 회원 userId={}", user.getUserId());
-        log.info("[updateUserUnReadCount] 이전 안읽음 알림 개수: {}", user.getUserUnReadCount());
-
-
-        // 2. 알림 수 변경
-        int newUnReadCount = Math.max(0, user.getUserUnReadCount() + unReadCountRequest.getAmount());
-        userDao.updateUserUnReadCountByUserId(unReadCountRequest.getUserId(), newUnReadCount);
-        log.info("[updateUserUnReadCount] 이후 안읽음 알림 개수: {}", newUnReadCount);
+        Long userId = unReadCountRequest.getUserId();
+
+        // 1. Redis 안읽음 알림 수 변경 (MySQL 반영은 UnReadCountFlusher 가 모아서 처리)
+        Integer newUnReadCount = redisService.addUnReadCount(userId, unReadCountRequest.getAmount(), null);
+
+        // 2. Redis 에 값이 없으면 MySQL 값부터 시작
+        if (newUnReadCount == null) {
+            UserDto user = userDao.findUserByUserId(userId)
+                    .orElseThrow(() -> {
+                        UsernameNotFoundException usernameNotFoundException = new UsernameNotFoundException("UserId(" + userId + ")로 회원을 찾을 수 없습니다.");
+                        return new ResponseStatusException(HttpStatus.NOT_FOUND, usernameNotFoundException.getMessage(), usernameNotFoundException);
+                    });
+            newUnReadCount = redisService.addUnReadCount(userId, unReadCountRequest.getAmount(), user.getUserUnReadCount());
+        }
+        log.info("[updateUserUnReadCount] userId={}, 이후 안읽음 알림 개수: {}", userId, newUnReadCount);
     }
 
     @Override
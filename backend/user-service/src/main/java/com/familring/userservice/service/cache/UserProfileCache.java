@@ -0,0 +1,238 @@
+package com.familring.userservice.service.cache;
+
+import com.familring.userservice.model.dao.UserDao;
+import com.familring.userservice.model.dto.UserDto;
+import com.familring.userservice.service.cache.event.UserProfileChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// 회원 정보 read-through 캐시 (/client/users 내부 호출, 토큰 인증이 매번 MySQL 을 조회하지 않도록)
+// userId -> 회원 정보를 max-entries 개까지 LRU 로 보관하고, kakaoId 는 userId 로 찾아가는 색인만 보관
+// 회원 정보 변경 시 해당 회원만 제거하고 (트랜잭션 중이면 커밋 후 한 번 더 제거) 다른 인스턴스에는 Bus 로 알림
+// Bus 메시지가 유실되더라도 ttl-ms 가 지나면 다시 조회
+@Component
+@Log4j2
+public class UserProfileCache {
+
+    private final UserDao userDao;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BusProperties busProperties;
+    private final Destination.Factory destinationFactory;
+    private final String applicationName;
+    private final long ttlMs;
+
+    private final Map<Long, CachedUser> users;
+    private final Map<String, Long> kakaoIds = new HashMap<>();
+
+    private final Counter userIdHitCounter;
+    private final Counter userIdMissCounter;
+    private final Counter kakaoIdHitCounter;
+    private final Counter kakaoIdMissCounter;
+
+    // 조회 중 제거된 경우 조회 결과(변경 전 값)를 넣지 않도록 제거할 때마다 증가
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserProfileCache(UserDao userDao, ApplicationEventPublisher eventPublisher,
+                            BusProperties busProperties, Destination.Factory destinationFactory, MeterRegistry meterRegistry,
+                            @Value("${spring.application.name:user-service}") String applicationName,
+                            @Value("${familring.user.cache.max-entries:10000}") int maxEntries,
+                            @Value("${familring.user.cache.ttl-ms:600000}") long ttlMs) {
+        this.userDao = userDao;
+        this.eventPublisher = eventPublisher;
+        this.busProperties = busProperties;
+        this.destinationFactory = destinationFactory;
+        this.applicationName = applicationName;
+        this.ttlMs = ttlMs;
+
+        this.users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedUser> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                kakaoIds.remove(eldest.getValue().user.getUserKakaoId());
+                return true;
+            }
+        };
+
+        this.userIdHitCounter = Counter.builder("familring.user.cache.requests").tag("key", "user-id").tag("result", "hit").register(meterRegistry);
+        this.userIdMissCounter = Counter.builder("familring.user.cache.requests").tag("key", "user-id").tag("result", "miss").register(meterRegistry);
+        this.kakaoIdHitCounter = Counter.builder("familring.user.cache.requests").tag("key", "kakao-id").tag("result", "hit").register(meterRegistry);
+        this.kakaoIdMissCounter = Counter.builder("familring.user.cache.requests").tag("key", "kakao-id").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("familring.user.cache.size", this, cache -> cache.size()).register(meterRegistry);
+    }
+
+    public Optional<UserDto> findByUserId(Long userId) {
+        UserDto cached = get(userId);
+        (cached == null ? userIdMissCounter : userIdHitCounter).increment();
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long version = invalidations.get();
+        Optional<UserDto> loaded = userDao.findUserByUserId(userId);
+        loaded.ifPresent(user -> put(version, user));
+        return loaded;
+    }
+
+    public Optional<UserDto> findByKakaoId(String kakaoId) {
+        UserDto cached = getByKakaoId(kakaoId);
+        (cached == null ? kakaoIdMissCounter : kakaoIdHitCounter).increment();
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long version = invalidations.get();
+        Optional<UserDto> loaded = userDao.findUserByUserKakaoId(kakaoId);
+        loaded.ifPresent(user -> put(version, user));
+        return loaded;
+    }
+
+    // 여러 회원 조회 (캐시에 없는 회원만 loader 로 조회)
+    // 프로필 컬럼만 조회한 결과는 일부 필드가 비어 있으므로 캐시에 넣지 않음
+    public Map<Long, UserDto> findAllByUserIds(Collection<Long> userIds, boolean profileOnly,
+                                               Function<List<Long>, List<UserDto>> loader) {
+        Map<Long, UserDto> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long userId : userIds) {
+            UserDto cached = get(userId);
+            (cached == null ? userIdMissCounter : userIdHitCounter).increment();
+            if (cached != null) {
+                found.put(userId, cached);
+            } else {
+                misses.add(userId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        long version = invalidations.get();
+        for (UserDto user : loader.apply(misses)) {
+            found.put(user.getUserId(), user);
+            if (!profileOnly) {
+                put(version, user);
+            }
+        }
+        return found;
+    }
+
+    // 회원 정보 변경 (닉네임, 배경색, 얼굴, 기분, FCM 토큰, 안읽음 알림 수, 탈퇴)
+    public void evict(Long userId) {
+        evictLocal(userId);
+
+        // 커밋 전에 다른 요청이 변경 전 값을 다시 넣을 수 있으므로 커밋 후 한 번 더 제거하고 다른 인스턴스에 알림
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocal(userId);
+                    broadcast(userId);
+                }
+            });
+        } else {
+            broadcast(userId);
+        }
+    }
+
+    @EventListener
+    public void handleUserProfileChanged(UserProfileChangedEvent event) {
+        // 직접 보낸 이벤트는 이미 제거했으므로 무시
+        if (busProperties.getId().equals(event.getOriginService())) {
+            return;
+        }
+
+        log.info("[handleUserProfileChanged] 다른 인스턴스의 회원 정보 변경 userId={}, origin={}", event.getUserId(), event.getOriginService());
+        evictLocal(event.getUserId());
+    }
+
+    private void broadcast(Long userId) {
+        try {
+            eventPublisher.publishEvent(new UserProfileChangedEvent(this, busProperties.getId(),
+                    destinationFactory.getDestination(applicationName + ":**"), userId));
+        } catch (Exception e) {
+            log.warn("[broadcast] 회원 정보 변경 Bus 전송 실패 userId={}", userId, e);
+        }
+    }
+
+    private synchronized UserDto get(Long userId) {
+        CachedUser cached = users.get(userId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt < System.currentTimeMillis()) {
+            users.remove(userId);
+            kakaoIds.remove(cached.user.getUserKakaoId());
+            return null;
+        }
+        return cached.user;
+    }
+
+    private synchronized UserDto getByKakaoId(String kakaoId) {
+        Long userId = kakaoIds.get(kakaoId);
+        if (userId == null) {
+            return null;
+        }
+
+        UserDto user = get(userId);
+        if (user == null || !kakaoId.equals(user.getUserKakaoId())) {
+            kakaoIds.remove(kakaoId);
+            return null;
+        }
+        return user;
+    }
+
+    private synchronized void put(long version, UserDto user) {
+        if (invalidations.get() != version) {
+            return;
+        }
+
+        CachedUser previous = users.put(user.getUserId(), new CachedUser(user, System.currentTimeMillis() + ttlMs));
+        if (previous != null && !previous.user.getUserKakaoId().equals(user.getUserKakaoId())) {
+            kakaoIds.remove(previous.user.getUserKakaoId());
+        }
+        kakaoIds.put(user.getUserKakaoId(), user.getUserId());
+    }
+
+    private synchronized void evictLocal(Long userId) {
+        invalidations.incrementAndGet();
+        CachedUser removed = users.remove(userId);
+        if (removed != null) {
+            kakaoIds.remove(removed.user.getUserKakaoId());
+        }
+    }
+
+    private synchronized int size() {
+        return users.size();
+    }
+
+    private static class CachedUser {
+        private final UserDto user;
+        private final long expiresAt;
+
+        private CachedUser(UserDto user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
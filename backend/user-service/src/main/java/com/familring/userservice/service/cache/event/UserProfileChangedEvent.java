@@ -0,0 +1,18 @@
+package com.familring.userservice.service.cache.event;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+// 회원 정보 변경을 다른 user-service 인스턴스(회원 정보 캐시)에 알리는 Spring Cloud Bus 이벤트
+@Getter
+@NoArgsConstructor
+public class UserProfileChangedEvent extends RemoteApplicationEvent {
+    private Long userId;
+
+    public UserProfileChangedEvent(Object source, String originService, Destination destination, Long userId) {
+        super(source, originService, destination);
+        this.userId = userId;
+    }
+}